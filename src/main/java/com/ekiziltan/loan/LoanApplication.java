@@ -2,9 +2,11 @@ package com.ekiziltan.loan;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableScheduling
 public class LoanApplication {
 
 	public static void main(String[] args) {
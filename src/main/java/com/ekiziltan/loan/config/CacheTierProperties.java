@@ -0,0 +1,49 @@
+package com.ekiziltan.loan.config;
+
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MaxSizePolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per cache Hazelcast map settings ({@code app.cache.maps.<cacheName>.*}).
+ * Every field has a default, so a cache only needs the settings it wants to change.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheTierProperties {
+
+    private Map<String, MapTier> maps = new LinkedHashMap<>();
+
+    @Data
+    public static class MapTier {
+        private int timeToLiveSeconds = 300;
+        private int maxIdleSeconds = 0;
+        // BINARY keeps entries serialized (cheap to replicate), OBJECT skips deserialization on local reads
+        private InMemoryFormat inMemoryFormat = InMemoryFormat.BINARY;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+        private MaxSizePolicy maxSizePolicy = MaxSizePolicy.PER_NODE;
+        private int maxSize = 10_000;
+        private int backupCount = 1;
+        private int asyncBackupCount = 0;
+        private boolean readBackupData = false;
+        private NearCacheTier nearCache = new NearCacheTier();
+    }
+
+    @Data
+    public static class NearCacheTier {
+        private boolean enabled = false;
+        private InMemoryFormat inMemoryFormat = InMemoryFormat.OBJECT;
+        // drop the local copy when the entry changes anywhere in the cluster
+        private boolean invalidateOnChange = true;
+        private boolean cacheLocalEntries = true;
+        private int timeToLiveSeconds = 60;
+        private int maxIdleSeconds = 0;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LFU;
+        private int maxSize = 10_000;
+    }
+}
@@ -1,32 +1,91 @@
 package com.ekiziltan.loan.config;
 
 
+import com.ekiziltan.loan.service.cache.LoanCacheKeys;
+import com.ekiziltan.loan.service.cache.serialization.CacheSerializers;
+import com.ekiziltan.loan.service.credit.CreditExposureMapStore;
+import com.ekiziltan.loan.service.credit.HazelcastCreditLedger;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheTierProperties.class)
 public class HazelcastConfig {
 
+    private static final List<String> CACHE_NAMES = List.of(LoanCacheKeys.LOANS_CACHE, LoanCacheKeys.INSTALLMENTS_CACHE,
+            LoanCacheKeys.LOAN_OWNERS_CACHE);
+
     @Bean
-    public Config hazelcastConfiguration() {
+    public Config hazelcastConfiguration(CacheTierProperties cacheTierProperties,
+                                         ObjectProvider<CreditExposureMapStore> creditExposureStore,
+                                         @Value("${app.credit.exposure.write-delay-seconds:1}") int writeDelaySeconds) {
         Config config = new Config();
         config.setInstanceName("hazelcast-instance");
+        CacheSerializers.register(config.getSerializationConfig());
 
-        MapConfig loanMapConfig = new MapConfig();
-        loanMapConfig.setName("loansCache");
-        loanMapConfig.setTimeToLiveSeconds(300);
-        config.addMapConfig(loanMapConfig);
-
-        MapConfig installmentMapConfig = new MapConfig();
-        installmentMapConfig.setName("installmentsCache");
-        installmentMapConfig.setTimeToLiveSeconds(300);
-        config.addMapConfig(installmentMapConfig);
+        for (String cacheName : CACHE_NAMES) {
+            CacheTierProperties.MapTier tier = cacheTierProperties.getMaps()
+                    .getOrDefault(cacheName, new CacheTierProperties.MapTier());
+            config.addMapConfig(mapConfig(cacheName, tier));
+        }
+        creditExposureStore.ifAvailable(store -> config.addMapConfig(creditExposureMapConfig(store, writeDelaySeconds)));
 
         return config;
     }
-}
 
+    static MapConfig mapConfig(String name, CacheTierProperties.MapTier tier) {
+        MapConfig mapConfig = new MapConfig(name)
+                .setTimeToLiveSeconds(tier.getTimeToLiveSeconds())
+                .setMaxIdleSeconds(tier.getMaxIdleSeconds())
+                .setInMemoryFormat(tier.getInMemoryFormat())
+                .setBackupCount(tier.getBackupCount())
+                .setAsyncBackupCount(tier.getAsyncBackupCount())
+                .setReadBackupData(tier.isReadBackupData());
+        mapConfig.setEvictionConfig(new EvictionConfig()
+                .setEvictionPolicy(tier.getEvictionPolicy())
+                .setMaxSizePolicy(tier.getMaxSizePolicy())
+                .setSize(tier.getMaxSize()));
+
+        CacheTierProperties.NearCacheTier nearCache = tier.getNearCache();
+        if (nearCache.isEnabled()) {
+            mapConfig.setNearCacheConfig(new NearCacheConfig(name)
+                    .setInMemoryFormat(nearCache.getInMemoryFormat())
+                    .setInvalidateOnChange(nearCache.isInvalidateOnChange())
+                    .setCacheLocalEntries(nearCache.isCacheLocalEntries())
+                    .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+                    .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+                    .setEvictionConfig(new EvictionConfig()
+                            .setEvictionPolicy(nearCache.getEvictionPolicy())
+                            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                            .setSize(nearCache.getMaxSize())));
+        }
+        return mapConfig;
+    }
+
+    // never evicted: the entries are the live credit exposure, written behind to the customers table
+    static MapConfig creditExposureMapConfig(CreditExposureMapStore store, int writeDelaySeconds) {
+        return new MapConfig(HazelcastCreditLedger.CREDIT_EXPOSURE_MAP)
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setBackupCount(1)
+                .setMapStoreConfig(new MapStoreConfig()
+                        .setEnabled(true)
+                        .setImplementation(store)
+                        .setInitialLoadMode(MapStoreConfig.InitialLoadMode.LAZY)
+                        .setWriteDelaySeconds(writeDelaySeconds)
+                        .setWriteCoalescing(true));
+    }
+}
@@ -0,0 +1,101 @@
+package com.ekiziltan.loan.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hibernate's {@code validate} mode checks tables and columns but not indexes, so a schema missing the
+ * indexes declared on the entities would start up fine and then full scan on every lock and installment
+ * lookup. This check compares each {@code @Table(indexes)} against the JDBC metadata and refuses to start
+ * when one is missing. An existing index satisfies a declared one when its leading columns match,
+ * whatever it is named.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "spring.jpa.hibernate.ddl-auto", havingValue = "validate")
+public class SchemaIndexValidator implements InitializingBean {
+
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        List<String> missing = findMissingIndexes();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Schema validation: missing indexes " + missing);
+        }
+        log.info("Schema validation: all declared indexes are present");
+    }
+
+    public List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                Table table = entity.getJavaType().getAnnotation(Table.class);
+                if (table == null || table.indexes().length == 0) {
+                    continue;
+                }
+                Collection<List<String>> existing = readIndexes(connection, metaData, table.name()).values();
+                for (Index index : table.indexes()) {
+                    List<String> columns = columnsOf(index);
+                    if (existing.stream().noneMatch(candidate -> startsWith(candidate, columns))) {
+                        missing.add(table.name() + "." + index.name() + " " + columns);
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static Map<String, List<String>> readIndexes(Connection connection, DatabaseMetaData metaData,
+                                                         String tableName) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? tableName.toUpperCase(Locale.ROOT) : tableName;
+        Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, false, true)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        Map<String, List<String>> indexes = new TreeMap<>();
+        columnsByIndex.forEach((name, columns) -> indexes.put(name, new ArrayList<>(columns.values())));
+        return indexes;
+    }
+
+    private static List<String> columnsOf(Index index) {
+        return Arrays.stream(index.columnList().split(","))
+                .map(column -> column.trim().split("\\s+")[0].toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    private static boolean startsWith(List<String> candidate, List<String> required) {
+        return candidate.size() >= required.size() && candidate.subList(0, required.size()).equals(required);
+    }
+}
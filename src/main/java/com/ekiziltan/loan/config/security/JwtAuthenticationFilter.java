@@ -1,6 +1,5 @@
 package com.ekiziltan.loan.config.security;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.*;
@@ -31,21 +30,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = parseToken(request);
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Claims claims = jwtTokenProvider.getClaims(token);
-                String username = claims.getSubject();
-                Long customerId = claims.get(KEY_CUSTOMER_ID, Long.class);
-                String role = claims.get(KEY_ROLE, String.class);
-
-                CustomerPrincipal principal = new CustomerPrincipal(customerId, username, null, role);
-
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                principal,
-                                null,
-                                principal.getAuthorities()
-                        );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (token != null) {
+                jwtTokenProvider.authenticate(token).ifPresent(principal ->
+                        SecurityContextHolder.getContext().setAuthentication(
+                                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())));
             }
         } catch (Exception ex) {
             SecurityContextHolder.clearContext();
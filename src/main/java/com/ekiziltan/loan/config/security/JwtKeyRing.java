@@ -0,0 +1,265 @@
+package com.ekiziltan.loan.config.security;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ResourceUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HMAC signing keys shared by every node, identified by the {@code kid} header of the tokens they sign.
+ * Keys come from {@code jwt.keystore.path} (one key per secret key alias) or from {@code jwt.secretKey}, and
+ * are published to the cluster maps, so a token issued by one node verifies on all of them and survives the
+ * restart of a node. A rotated key is generated on one node and picked up by the others through the same maps;
+ * the retired key stays until every token it signed has expired. Each node caches the keys it has used and
+ * drops them when they leave the map, so a retired or removed key stops verifying everywhere.
+ * <p>
+ * Generated and rotated keys exist only in the cluster maps. After a restart of the whole cluster the ring
+ * starts again from the configured keys (or a new generated one), and every token signed by a key that is
+ * gone is rejected; clients log in again.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class JwtKeyRing {
+
+    public static final String KEYS_MAP = "jwtSigningKeys";
+    public static final String STATE_MAP = "jwtSigningKeyState";
+    private static final String STATE_KEY = "current";
+    private static final int MIN_KEY_BYTES = 32;
+    // made-up kids are answered from memory for this long instead of reaching the map on every request
+    private static final long UNKNOWN_KEY_TTL_MS = 10_000;
+    private static final int MAX_UNKNOWN_KEYS = 1_000;
+    // published defaults from the docs and compose files; anyone could sign an admin token with them
+    private static final Set<String> PLACEHOLDER_SECRETS = Set.of(
+            "loan-secret", "your_jwt_secret", "secret", "changeit", "changeme");
+
+    private final HazelcastInstance hazelcastInstance;
+    private final Map<String, SecretKey> localKeys = new ConcurrentHashMap<>();
+    private final Map<String, Long> unknownKeyExpiries = new ConcurrentHashMap<>();
+    private UUID listenerId;
+
+    @Value("${jwt.secretKey:}")
+    private String secretKeyString;
+
+    @Value("${jwt.key-id:default}")
+    private String keyId;
+
+    @Value("${jwt.keystore.path:}")
+    private String keystorePath;
+
+    @Value("${jwt.keystore.password:}")
+    private String keystorePassword;
+
+    @Value("${jwt.keystore.type:PKCS12}")
+    private String keystoreType;
+
+    @Value("${jwt.expirationMs}")
+    private long expirationMs;
+
+    // set by the prod profile: a generated key is lost with the cluster and logs every client out
+    @Value("${jwt.require-configured-key:false}")
+    private boolean requireConfiguredKey;
+
+    @PostConstruct
+    public void init() throws IOException, GeneralSecurityException {
+        Map<String, byte[]> configured = loadConfiguredKeys();
+        if (configured.isEmpty()) {
+            if (requireConfiguredKey) {
+                throw new IllegalStateException("No JWT signing key configured; set jwt.secretKey or jwt.keystore.path");
+            }
+            log.warn("No JWT signing key configured; using a generated key that is lost when the whole cluster restarts");
+        }
+        listenerId = keys().addEntryListener(new LocalKeyInvalidator(), false);
+        configured.forEach((id, secret) -> keys().putIfAbsent(id, secret));
+
+        String initialKeyId = configured.isEmpty() ? publishGeneratedKey() : keyId;
+        JwtKeyState state = states().putIfAbsent(STATE_KEY, new JwtKeyState(initialKeyId, System.currentTimeMillis()));
+        if (state != null && configured.isEmpty() && !state.keyId().equals(initialKeyId)) {
+            keys().remove(initialKeyId);
+        }
+        log.info("JWT signing key: {} ({} configured keys)", currentKeyId(), configured.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        if (listenerId != null) {
+            keys().removeEntryListener(listenerId);
+        }
+    }
+
+    public String currentKeyId() {
+        return states().get(STATE_KEY).keyId();
+    }
+
+    public SecretKey signingKey(String id) {
+        SecretKey key = verificationKey(id);
+        if (key == null) {
+            throw new IllegalStateException("JWT signing key " + id + " is not available");
+        }
+        return key;
+    }
+
+    // tokens without a kid predate key ids and are checked against the current key. The map is read inside
+    // computeIfAbsent, so a removal event for the same key waits for the load and drops what it cached
+    public SecretKey verificationKey(String id) {
+        String lookupId = id != null ? id : currentKeyId();
+        SecretKey key = localKeys.get(lookupId);
+        if (key != null) {
+            return key;
+        }
+        long now = System.currentTimeMillis();
+        Long unknownUntil = unknownKeyExpiries.get(lookupId);
+        if (unknownUntil != null && now < unknownUntil) {
+            return null;
+        }
+        key = localKeys.computeIfAbsent(lookupId, missingId -> {
+            byte[] secret = keys().get(missingId);
+            return secret == null ? null : Keys.hmacShaKeyFor(secret);
+        });
+        if (key == null) {
+            rememberUnknown(lookupId, now);
+        } else {
+            unknownKeyExpiries.remove(lookupId);
+        }
+        return key;
+    }
+
+    /**
+     * Replaces the signing key when it is older than {@code maxAgeMs}. Safe to call from every node: only one of
+     * concurrent callers swaps the pointer, the others discard their key.
+     */
+    public boolean rotateIfOlderThan(long maxAgeMs) {
+        long now = System.currentTimeMillis();
+        JwtKeyState state = states().get(STATE_KEY);
+        if (state != null && now - state.activatedAtMillis() < maxAgeMs) {
+            return false;
+        }
+        String newKeyId = UUID.randomUUID().toString();
+        keys().put(newKeyId, Jwts.SIG.HS256.key().build().getEncoded());
+        JwtKeyState next = new JwtKeyState(newKeyId, now);
+        boolean swapped = state == null
+                ? states().putIfAbsent(STATE_KEY, next) == null
+                : states().replace(STATE_KEY, state, next);
+        if (!swapped) {
+            keys().remove(newKeyId);
+            return false;
+        }
+        if (state != null) {
+            // outlive the last token the retired key signed
+            keys().setTtl(state.keyId(), 2 * expirationMs, TimeUnit.MILLISECONDS);
+        }
+        log.info("JWT signing key rotated to {}", newKeyId);
+        return true;
+    }
+
+    // random kids must not grow the map without bound; starting over only costs a few extra map reads
+    private void rememberUnknown(String id, long now) {
+        if (unknownKeyExpiries.size() >= MAX_UNKNOWN_KEYS) {
+            unknownKeyExpiries.clear();
+        }
+        unknownKeyExpiries.put(id, now + UNKNOWN_KEY_TTL_MS);
+    }
+
+    private String publishGeneratedKey() {
+        String generatedId = UUID.randomUUID().toString();
+        keys().put(generatedId, Jwts.SIG.HS256.key().build().getEncoded());
+        return generatedId;
+    }
+
+    private Map<String, byte[]> loadConfiguredKeys() throws IOException, GeneralSecurityException {
+        if (!keystorePath.isBlank()) {
+            return loadKeystore();
+        }
+        if (secretKeyString.isBlank()) {
+            return Collections.emptyMap();
+        }
+        if (PLACEHOLDER_SECRETS.contains(secretKeyString.trim().toLowerCase(Locale.ROOT))) {
+            throw new IllegalStateException("jwt.secretKey is a placeholder; configure a random secret or leave it blank");
+        }
+        byte[] secret = secretKeyString.getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("jwt.secretKey must be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        return Map.of(keyId, secret);
+    }
+
+    // every secret key entry is a signing key named by its alias; jwt.key-id picks the one that signs
+    private Map<String, byte[]> loadKeystore() throws IOException, GeneralSecurityException {
+        char[] password = keystorePassword.toCharArray();
+        KeyStore keyStore = KeyStore.getInstance(keystoreType);
+        try (InputStream in = ResourceUtils.getURL(keystorePath).openStream()) {
+            keyStore.load(in, password);
+        }
+        Map<String, byte[]> loaded = new LinkedHashMap<>();
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                loaded.put(alias, keyStore.getKey(alias, password).getEncoded());
+            }
+        }
+        if (!loaded.containsKey(keyId)) {
+            throw new IllegalStateException("Keystore " + keystorePath + " has no secret key " + keyId);
+        }
+        return loaded;
+    }
+
+    // a key that expired (retired by rotation) or was removed (e.g. leaked) must not keep verifying on this node,
+    // and a key published by another node must not stay hidden behind a cached miss
+    private class LocalKeyInvalidator implements EntryAddedListener<String, byte[]>, EntryRemovedListener<String, byte[]>,
+            EntryExpiredListener<String, byte[]>, EntryEvictedListener<String, byte[]> {
+
+        @Override
+        public void entryAdded(EntryEvent<String, byte[]> event) {
+            unknownKeyExpiries.remove(event.getKey());
+        }
+
+        @Override
+        public void entryRemoved(EntryEvent<String, byte[]> event) {
+            localKeys.remove(event.getKey());
+        }
+
+        @Override
+        public void entryExpired(EntryEvent<String, byte[]> event) {
+            localKeys.remove(event.getKey());
+        }
+
+        @Override
+        public void entryEvicted(EntryEvent<String, byte[]> event) {
+            localKeys.remove(event.getKey());
+        }
+    }
+
+    private IMap<String, byte[]> keys() {
+        return hazelcastInstance.getMap(KEYS_MAP);
+    }
+
+    private IMap<String, JwtKeyState> states() {
+        return hazelcastInstance.getMap(STATE_MAP);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ekiziltan.loan.config.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rotates the cluster's JWT signing key every {@code jwt.rotation.interval-ms}. Runs on every node; the key
+ * ring makes sure only one of them performs each rotation.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "jwt.rotation.enabled", havingValue = "true")
+public class JwtKeyRotator {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @Value("${jwt.rotation.interval-ms:86400000}")
+    private long rotationIntervalMs;
+
+    @Scheduled(fixedDelayString = "${jwt.rotation.check-interval-ms:60000}")
+    public void rotateIfDue() {
+        jwtKeyRing.rotateIfOlderThan(rotationIntervalMs);
+    }
+}
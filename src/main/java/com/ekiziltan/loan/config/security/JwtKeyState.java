@@ -0,0 +1,13 @@
+package com.ekiziltan.loan.config.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The cluster-wide signing key pointer: which key id signs new tokens and since when.
+ */
+public record JwtKeyState(String keyId, long activatedAtMillis) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
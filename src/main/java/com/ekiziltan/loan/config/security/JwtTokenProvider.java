@@ -1,77 +1,111 @@
 package com.ekiziltan.loan.config.security;
 
 
+import com.ekiziltan.loan.config.security.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 
-import javax.crypto.SecretKey;
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
+@RequiredArgsConstructor
 @Component
 public class JwtTokenProvider {
 
     public static final String KEY_CUSTOMER_ID = "customerId";
     public static final String KEY_ROLE = "role";
-    @Value("${jwt.secretKey}")
-    private String secretKeyString;
 
     @Value("${jwt.expirationMs}")
     private long expirationMs;
 
-    private SecretKey secretKey;
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    // immutable and thread-safe, so one parser serves every request
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
-        Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-        String sKey = Base64.getEncoder().encodeToString(key.getEncoded());
-        this.secretKey = Keys.hmacShaKeyFor(sKey.getBytes());
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return jwtKeyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
     public String generateToken(Long customerId, String username, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationMs);
 
+        String keyId = jwtKeyRing.currentKeyId();
+
         return Jwts.builder()
+                .header().keyId(keyId).and()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .claim(KEY_CUSTOMER_ID, customerId)
                 .claim(KEY_ROLE, role)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(jwtKeyRing.signingKey(keyId), SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-
-            log.error("JWT token validation failed", e);
+    // verifies and parses the token once; a token seen before is served from the cache until it expires.
+    // Revocation is checked on every call, cached or not
+    public Optional<CustomerPrincipal> authenticate(String token) {
+        VerifiedToken verified = verifiedTokenCache.get(token);
+        if (verified == null) {
+            verified = verify(token);
+            if (verified == null) {
+                return Optional.empty();
+            }
+            verifiedTokenCache.put(token, verified);
+        }
+        if (tokenRevocationService.isRevoked(verified.tokenId())) {
+            return Optional.empty();
         }
-        return false;
+        return Optional.of(verified.principal());
     }
 
-    public Claims getClaims(String token) {
+    // rejects the token on every node until it expires; a token that does not verify is ignored
+    public void revoke(String token) {
+        VerifiedToken verified = verifiedTokenCache.get(token);
+        if (verified == null) {
+            verified = verify(token);
+        }
+        if (verified != null) {
+            tokenRevocationService.revoke(verified.tokenId(), verified.expiresAtMillis());
+        }
+    }
 
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private VerifiedToken verify(String token) {
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            CustomerPrincipal principal = new CustomerPrincipal(claims.get(KEY_CUSTOMER_ID, Long.class),
+                    claims.getSubject(), null, claims.get(KEY_ROLE, String.class));
+            return new VerifiedToken(principal, claims.getId(), claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT token validation failed: {}", e.getMessage());
+        }
+        return null;
     }
 }
@@ -0,0 +1,14 @@
+package com.ekiziltan.loan.config.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * What a refresh token stands for: the customer to issue access tokens for, and when the login happened,
+ * which bounds how long the session can be renewed.
+ */
+public record RefreshSession(Long customerId, String username, String role, long loggedInAtMillis) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+}
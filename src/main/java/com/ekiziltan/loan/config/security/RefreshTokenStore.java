@@ -0,0 +1,81 @@
+package com.ekiziltan.loan.config.security;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opaque refresh tokens, kept in a Hazelcast map under their SHA-256 so every node can renew a session and a
+ * leaked map entry is no usable token. Each renewal replaces the token (one use only) and slides its expiry by
+ * {@code jwt.refresh.idle-ms}, up to {@code jwt.refresh.max-lifetime-ms} after the login. Revoking a token
+ * removes its entry.
+ */
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenStore {
+
+    public static final String REFRESH_TOKENS_MAP = "refreshTokens";
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final HazelcastInstance hazelcastInstance;
+
+    @Value("${jwt.refresh.idle-ms:604800000}")
+    private long idleMs;
+
+    @Value("${jwt.refresh.max-lifetime-ms:2592000000}")
+    private long maxLifetimeMs;
+
+    public String issue(Long customerId, String username, String role) {
+        return store(new RefreshSession(customerId, username, role, System.currentTimeMillis()));
+    }
+
+    /**
+     * Consumes the token and returns its session with a new token, or empty when the token is unknown, already
+     * used, revoked or past the session's lifetime. Of concurrent renewals with the same token only one succeeds.
+     */
+    public Optional<Renewal> renew(String refreshToken) {
+        if (refreshToken == null) {
+            return Optional.empty();
+        }
+        RefreshSession session = sessions().remove(VerifiedTokenCache.hash(refreshToken));
+        if (session == null || remainingLifetime(session) <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Renewal(session, store(session)));
+    }
+
+    public void revoke(String refreshToken) {
+        if (refreshToken != null) {
+            sessions().delete(VerifiedTokenCache.hash(refreshToken));
+        }
+    }
+
+    private String store(RefreshSession session) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        // a ttl of 0 would mean no expiry
+        long ttl = Math.max(1, Math.min(idleMs, remainingLifetime(session)));
+        sessions().set(VerifiedTokenCache.hash(refreshToken), session, ttl, TimeUnit.MILLISECONDS);
+        return refreshToken;
+    }
+
+    private long remainingLifetime(RefreshSession session) {
+        return session.loggedInAtMillis() + maxLifetimeMs - System.currentTimeMillis();
+    }
+
+    private IMap<String, RefreshSession> sessions() {
+        return hazelcastInstance.getMap(REFRESH_TOKENS_MAP);
+    }
+
+    public record Renewal(RefreshSession session, String refreshToken) {
+    }
+}
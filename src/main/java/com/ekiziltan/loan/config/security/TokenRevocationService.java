@@ -0,0 +1,104 @@
+package com.ekiziltan.loan.config.security;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.topic.ITopic;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access tokens revoked before their {@code exp}, by {@code jti}. The exact set is a Hazelcast map whose
+ * entries expire with their tokens; each node also keeps a {@link RevokedTokenFilter} fed by a topic, so an
+ * authenticated request only reaches the map on a filter hit. The filter is rebuilt from the map every
+ * {@code jwt.revocation.rebuild-interval-ms}, which drops expired revocations and repairs missed messages.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    public static final String REVOKED_TOKENS_MAP = "revokedTokens";
+    public static final String REVOCATIONS_TOPIC = "tokenRevocations";
+
+    private final HazelcastInstance hazelcastInstance;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile RevokedTokenFilter filter;
+    // receives the revocations published while a rebuild is reading the map
+    private volatile RevokedTokenFilter rebuilding;
+    private UUID listenerId;
+
+    @Autowired
+    public TokenRevocationService(HazelcastInstance hazelcastInstance,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.filter = new RevokedTokenFilter(expectedRevocations, falsePositiveRate);
+        this.listenerId = topic().addMessageListener(message -> add(message.getMessageObject()));
+        rebuild();
+    }
+
+    @PreDestroy
+    public void close() {
+        topic().removeMessageListener(listenerId);
+    }
+
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long ttl = expiresAtMillis - System.currentTimeMillis();
+        if (tokenId == null || ttl <= 0) {
+            return;
+        }
+        // in the map before the message goes out, so a rebuild racing the message still sees it
+        revokedTokens().set(tokenId, expiresAtMillis, ttl, TimeUnit.MILLISECONDS);
+        add(tokenId);
+        topic().publish(tokenId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId) && revokedTokens().containsKey(tokenId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        RevokedTokenFilter next = new RevokedTokenFilter(expectedRevocations, falsePositiveRate);
+        rebuilding = next;
+        revokedTokens().keySet().forEach(next::add);
+        // publish before clearing rebuilding; add depends on this order
+        filter = next;
+        rebuilding = null;
+        log.debug("Revoked token filter rebuilt");
+    }
+
+    // rebuilding is read before filter: if it is already null again, the rebuild has published its filter, so
+    // the read of filter below sees it; if the rebuild had not started yet, its map scan will find the id
+    private void add(String tokenId) {
+        RevokedTokenFilter next = rebuilding;
+        if (next != null) {
+            next.add(tokenId);
+        }
+        filter.add(tokenId);
+    }
+
+    private IMap<String, Long> revokedTokens() {
+        return hazelcastInstance.getMap(REVOKED_TOKENS_MAP);
+    }
+
+    private ITopic<String> topic() {
+        return hazelcastInstance.getTopic(REVOCATIONS_TOPIC);
+    }
+}
@@ -0,0 +1,92 @@
+package com.ekiziltan.loan.config.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tokens whose signature has already been verified, keyed by the token's SHA-256, so repeat requests with
+ * the same token skip signature verification and claims parsing. An entry is never served past
+ * the token's {@code exp}. Entries are also queued by {@code exp}; when the cache is full, the entry closest to
+ * expiry makes room for the new token, so a put costs O(log n) and never scans the cache.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+    // guarded by itself; holds a key for every put that added an entry, until it expires or is evicted
+    private final PriorityQueue<Expiry> expiries = new PriorityQueue<>(Comparator.comparingLong(Expiry::expiresAtMillis));
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public VerifiedToken get(String token) {
+        String key = hash(token);
+        VerifiedToken entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        String key = hash(token);
+        if (maxSize <= 0 || entries.putIfAbsent(key, verified) != null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (expiries) {
+            expiries.add(new Expiry(key, verified.expiresAtMillis()));
+            // expired heads first, then the soonest to expire while the cache is over its bound
+            while (!expiries.isEmpty()
+                    && (expiries.peek().expiresAtMillis() <= now || entries.size() > maxSize)) {
+                entries.remove(expiries.poll().key());
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (expiries) {
+            expiries.clear();
+            entries.clear();
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Expiry(String key, long expiresAtMillis) {
+    }
+
+    public record VerifiedToken(CustomerPrincipal principal, String tokenId, long expiresAtMillis) {
+    }
+}
@@ -1,8 +1,12 @@
 package com.ekiziltan.loan.controller;
 
+import com.ekiziltan.loan.config.security.JwtAuthenticationFilter;
 import com.ekiziltan.loan.config.security.JwtTokenProvider;
+import com.ekiziltan.loan.config.security.RefreshSession;
+import com.ekiziltan.loan.config.security.RefreshTokenStore;
 import com.ekiziltan.loan.dto.LoginRequest;
 import com.ekiziltan.loan.dto.LoginResponse;
+import com.ekiziltan.loan.dto.RefreshTokenRequest;
 import com.ekiziltan.loan.entity.Customer;
 import com.ekiziltan.loan.handlers.exceptions.ApiException;
 import com.ekiziltan.loan.repository.CustomerRepository;
@@ -23,6 +27,8 @@ public class AuthController {
 
     private final PasswordEncoder passwordEncoder;
 
+    private final RefreshTokenStore refreshTokenStore;
+
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
 
@@ -32,14 +38,46 @@ public class AuthController {
         if (!passwordEncoder.matches(request.getPassword(), customer.getPassword())) {
             throw new ApiException("Password is wrong",HttpStatus.BAD_REQUEST);
         }
+        if (passwordEncoder.upgradeEncoding(customer.getPassword())) {
+            customerRepository.updatePasswordHash(customer.getId(), customer.getPassword(),
+                    passwordEncoder.encode(request.getPassword()));
+        }
 
         String token = jwtTokenProvider.generateToken(
                 customer.getId(),
                 customer.getUsername(),
                 customer.getRole()
         );
+        String refreshToken = refreshTokenStore.issue(customer.getId(), customer.getUsername(), customer.getRole());
+
+        return ResponseEntity.ok(new LoginResponse(token, customer.getId(), customer.getRole(), refreshToken));
+    }
+
+    // renews the session from the refresh token alone: no customer lookup and no password hashing
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenRequest request) {
+        RefreshTokenStore.Renewal renewal = refreshTokenStore.renew(request.getRefreshToken())
+                .orElseThrow(() -> new ApiException("Refresh token is invalid or expired", HttpStatus.UNAUTHORIZED));
+        RefreshSession session = renewal.session();
 
-        return ResponseEntity.ok(new LoginResponse(token, customer.getId(), customer.getRole()));
+        String token = jwtTokenProvider.generateToken(session.customerId(), session.username(), session.role());
+
+        return ResponseEntity.ok(new LoginResponse(token, session.customerId(), session.role(), renewal.refreshToken()));
+    }
+
+    // ends the session: the access token is revoked on every node and the refresh token, when sent, is deleted.
+    // The body is optional, so a client that only holds an access token can still log out
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenRequest request,
+                                       @RequestHeader(value = JwtAuthenticationFilter.KEY_AUTHORIZATION, required = false)
+                                       String authorization) {
+        if (authorization != null && authorization.startsWith(JwtAuthenticationFilter.PREFIX_TOKEN_BEARER_)) {
+            jwtTokenProvider.revoke(authorization.substring(JwtAuthenticationFilter.PREFIX_TOKEN_BEARER_.length()));
+        }
+        if (request != null) {
+            refreshTokenStore.revoke(request.getRefreshToken());
+        }
+        return ResponseEntity.noContent().build();
     }
 
 }
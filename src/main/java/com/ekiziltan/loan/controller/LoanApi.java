@@ -17,6 +17,10 @@ public interface LoanApi {
     @PostMapping("/admin/create-loan")
     ResponseEntity<LoanDTO> createLoan(@RequestBody CreateLoanRequest request);
 
+    @Operation(summary = "Admin -> Create loans in bulk, reporting a result per item")
+    @PostMapping("/admin/create-loans")
+    ResponseEntity<BulkLoanCreationResponse> createLoans(@RequestBody List<CreateLoanRequest> requests);
+
     @Operation(summary = "Customer/Admin -> List loans for a customer (with pagination)")
     @GetMapping("/customer/list-loans/{customerId}")
     ResponseEntity<List<LoanDTO>> listLoans(
@@ -37,6 +41,14 @@ public interface LoanApi {
             @RequestParam(required = false) Integer pageSize
     );
 
+    @Operation(summary = "Customer/Admin -> Simulate a loan and its schedule without creating it")
+    @PostMapping("/customer/quote-loan")
+    ResponseEntity<LoanQuoteResponse> quoteLoan(@RequestBody LoanQuoteRequest request);
+
+    @Operation(summary = "Customer/Admin -> Preview what a payment amount would pay, without paying")
+    @PostMapping("/customer/preview-payment")
+    ResponseEntity<PaymentPreviewResponse> previewPayment(@RequestBody PayInstallmentRequest request);
+
     @Operation(summary = "Customer/Admin -> Make a loan payment")
     @PostMapping("/customer/pay-loan")
     ResponseEntity<PayInstallmentResponse> payLoan(@RequestBody PayInstallmentRequest request);
@@ -1,10 +1,13 @@
 package com.ekiziltan.loan.controller;
 
 import com.ekiziltan.loan.dto.*;
+import com.ekiziltan.loan.service.BulkLoanCreationService;
 import com.ekiziltan.loan.service.InstallmentListService;
 import com.ekiziltan.loan.service.pay.InstallmentPayService;
+import com.ekiziltan.loan.service.pay.PaymentPreviewService;
 import com.ekiziltan.loan.service.LoanCreationService;
 import com.ekiziltan.loan.service.LoansListForCustomerService;
+import com.ekiziltan.loan.service.quote.LoanQuoteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -25,6 +28,9 @@ public class LoanController implements LoanApi {
     private final LoansListForCustomerService listLoansForCustomerService;
     private final InstallmentListService installmentListService;
     private final InstallmentPayService installmentPayService;
+    private final BulkLoanCreationService bulkLoanCreationService;
+    private final LoanQuoteService loanQuoteService;
+    private final PaymentPreviewService paymentPreviewService;
 
 
     @Value("${app.pagination.default-page:0}")
@@ -40,6 +46,12 @@ public class LoanController implements LoanApi {
         return new ResponseEntity<>(createdLoan, HttpStatus.CREATED);
     }
 
+    @Override
+    public ResponseEntity<BulkLoanCreationResponse> createLoans(List<CreateLoanRequest> requests) {
+        BulkLoanCreationResponse response = bulkLoanCreationService.execute(requests);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @Override
     public ResponseEntity<List<LoanDTO>> listLoans(Long customerId, Integer pageNumber, Integer pageSize,
                                                    Integer numberOfInstallment, LocalDate createDateFrom, LocalDate createDateTo,
@@ -90,6 +102,16 @@ public class LoanController implements LoanApi {
         return new ResponseEntity<>(installmentDTOS, HttpStatus.OK);
     }
 
+    @Override
+    public ResponseEntity<LoanQuoteResponse> quoteLoan(LoanQuoteRequest request) {
+        return new ResponseEntity<>(loanQuoteService.execute(request), HttpStatus.OK);
+    }
+
+    @Override
+    public ResponseEntity<PaymentPreviewResponse> previewPayment(PayInstallmentRequest request) {
+        return new ResponseEntity<>(paymentPreviewService.execute(request), HttpStatus.OK);
+    }
+
     @Override
     public ResponseEntity<PayInstallmentResponse> payLoan(PayInstallmentRequest request) {
         PayInstallmentResponse response = installmentPayService.execute(request);
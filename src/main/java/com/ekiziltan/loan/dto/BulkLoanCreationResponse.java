@@ -0,0 +1,18 @@
+package com.ekiziltan.loan.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Builder
+@Data
+@Schema(description = "Per item results of a bulk loan creation request")
+public class BulkLoanCreationResponse {
+    private Integer requested;
+    private Integer created;
+    private Integer rejected;
+    private Integer failed;
+    private List<BulkLoanItemResult> results;
+}
@@ -0,0 +1,40 @@
+package com.ekiziltan.loan.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a single item of a bulk loan creation request")
+public class BulkLoanItemResult {
+
+    @Schema(description = "Position of the item in the request", example = "0")
+    private int index;
+
+    @Schema(description = "ID of the customer", example = "1001")
+    private Long customerId;
+
+    @Schema(description = "ID of the created loan, null unless the item was created", example = "1")
+    private Long loanId;
+
+    @Schema(description = "CREATED, REJECTED (validation / credit limit) or FAILED (persistence error)", example = "CREATED")
+    private BulkLoanItemStatus status;
+
+    @Schema(description = "Reason of the rejection or failure", example = "Customer exceeds credit limit!")
+    private String message;
+
+    public static BulkLoanItemResult created(int index, Long customerId, Long loanId) {
+        return new BulkLoanItemResult(index, customerId, loanId, BulkLoanItemStatus.CREATED, null);
+    }
+
+    public static BulkLoanItemResult rejected(int index, Long customerId, String message) {
+        return new BulkLoanItemResult(index, customerId, null, BulkLoanItemStatus.REJECTED, message);
+    }
+
+    public static BulkLoanItemResult failed(int index, Long customerId, String message) {
+        return new BulkLoanItemResult(index, customerId, null, BulkLoanItemStatus.FAILED, message);
+    }
+}
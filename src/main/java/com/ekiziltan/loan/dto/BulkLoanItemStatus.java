@@ -0,0 +1,7 @@
+package com.ekiziltan.loan.dto;
+
+public enum BulkLoanItemStatus {
+    CREATED,
+    REJECTED,
+    FAILED
+}
@@ -0,0 +1,16 @@
+package com.ekiziltan.loan.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Builder
+@Data
+public class LoanQuoteInstallment {
+    private Integer installmentNumber;
+    private BigDecimal amount;
+    private BigDecimal principalPortion;
+    private BigDecimal interestPortion;
+    private BigDecimal remainingPrincipal;
+}
@@ -0,0 +1,23 @@
+package com.ekiziltan.loan.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Builder(toBuilder = true)
+@Data
+public class LoanQuoteResponse {
+    private BigDecimal principalAmount;
+    private Double interestRate;
+    private Integer numberOfInstallment;
+    private BigDecimal loanAmount; // as recorded on the created loan: principal * (1 + rate)
+    private BigDecimal interestAmount; // loanAmount - principal, as recorded on the created loan
+    private BigDecimal installmentAmount;
+    private BigDecimal scheduleTotalAmount; // sum of the installments actually due
+    private BigDecimal scheduleTotalInterest; // sum of the installments' interest portions
+    private BigDecimal apr; // nominal annual rate in percent; there are no fees
+    private BigDecimal effectiveAnnualRate; // (1 + monthly rate)^12 - 1, in percent
+    private List<LoanQuoteInstallment> installments;
+}
@@ -9,4 +9,5 @@ public class LoginResponse {
     private String token;
     private Long customerId;
     private String role;
+    private String refreshToken;
 }
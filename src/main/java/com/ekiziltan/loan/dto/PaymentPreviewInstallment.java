@@ -0,0 +1,17 @@
+package com.ekiziltan.loan.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+@Data
+public class PaymentPreviewInstallment {
+    private Long installmentId;
+    private LocalDate dueDate;
+    private BigDecimal amount;
+    private BigDecimal finalAmount;
+    private BigDecimal adjustment; // negative: early payment discount, positive: late payment penalty
+}
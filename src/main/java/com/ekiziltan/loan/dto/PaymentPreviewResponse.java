@@ -0,0 +1,17 @@
+package com.ekiziltan.loan.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Builder
+@Data
+public class PaymentPreviewResponse {
+    private Integer paidInstalments;
+    private BigDecimal totalSpent;
+    private BigDecimal amountLeft;
+    private Boolean loanIsFullyPaid;
+    private List<PaymentPreviewInstallment> installments;
+}
@@ -0,0 +1,7 @@
+package com.ekiziltan.loan.dto;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    private String refreshToken;
+}
@@ -24,6 +24,7 @@ public class Customer {
     public static final String COL_ROLE = "role"; // temporary it can be in role table.
     public static final String COL_CREDIT_LIMIT = "creditLimit";
     public static final String COL_USED_CREDIT_LIMIT = "usedCreditLimit";
+    public static final String COL_VERSION = "version";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -51,6 +52,11 @@ public class Customer {
     @Column(name = COL_ROLE)
     private String role;
 
+    // optimistic concurrency (app.payment.concurrency=optimistic)
+    @Version
+    @Column(name = COL_VERSION)
+    private Long version;
+
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = false, fetch = FetchType.LAZY)
     private List<Loan> loans = new ArrayList<>();
 }
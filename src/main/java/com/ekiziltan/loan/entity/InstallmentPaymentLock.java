@@ -7,7 +7,12 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "installment_payment_lock")
+@Table(name = "installment_payment_lock",
+        indexes = {
+                @Index(name = "idx_inst_pay_lock_loan_status", columnList = "loan_id, status"),
+                @Index(name = "idx_inst_pay_lock_customer_status", columnList = "customer_id, status"),
+                @Index(name = "idx_inst_pay_lock_status_created", columnList = "status, created_date")
+        })
 public class InstallmentPaymentLock {
 
     @Id
@@ -9,7 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "loans")
+@Table(name = Loan.TABLE_NAME,
+        indexes = @Index(name = Loan.IDX_CUSTOMER_CREATE_DATE_PAID,
+                columnList = Loan.COL_CUSTOMER + ", " + Loan.COL_CREATE_DATE + ", " + Loan.COL_IS_PAID))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,9 +27,19 @@ public class Loan {
     public static final String COL_INTEREST_RATE = "interest_rate";
     public static final String COL_CREATE_DATE = "create_date";
     public static final String COL_IS_PAID = "is_paid";
+    public static final String COL_VERSION = "version";
+
+    // serves the customer's loan listing and its createDate / isPaid filters
+    public static final String IDX_CUSTOMER_CREATE_DATE_PAID = "idx_loans_customer_create_date_paid";
+
+    public static final String SEQUENCE_NAME = "loans_seq";
+    public static final String GENERATOR_NAME = "loanGenerator";
+    // pooled ids so bulk origination can batch loan inserts as well
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GENERATOR_NAME)
+    @SequenceGenerator(name = GENERATOR_NAME, sequenceName = SEQUENCE_NAME, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = COL_ID)
     private Long id;
 
@@ -58,6 +70,11 @@ public class Loan {
     private Boolean isPaid;
 
 
+    // optimistic concurrency (app.payment.concurrency=optimistic)
+    @Version
+    @Column(name = COL_VERSION)
+    private Long version;
+
     @OneToMany(mappedBy = "loan", cascade = CascadeType.ALL, orphanRemoval = false, fetch = FetchType.LAZY)
     private List<LoanInstallment> installments = new ArrayList<>();
 }
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 
 @Data
 @Entity
-@Table(name = "loan_application_lock")
+@Table(name = "loan_application_lock",
+        indexes = {
+                @Index(name = "idx_loan_app_lock_customer_status", columnList = "customer_id, status"),
+                @Index(name = "idx_loan_app_lock_status_created", columnList = "status, created_date")
+        })
 public class LoanApplicationLock {
 
     @Id
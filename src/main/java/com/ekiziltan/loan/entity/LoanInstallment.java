@@ -6,7 +6,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = LoanInstallment.TABLE_NAME)
+@Table(name = LoanInstallment.TABLE_NAME,
+        indexes = @Index(name = LoanInstallment.IDX_LOAN_DUE_DATE,
+                columnList = LoanInstallment.COL_LOAN + ", " + LoanInstallment.COL_DUE_DATE))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,14 +22,24 @@ public class LoanInstallment {
     public static final String COL_DUE_DATE = "due_date";
     public static final String COL_PAYMENT_DATE = "payment_date";
     public static final String COL_IS_PAID = "is_paid";
+    public static final String COL_VERSION = "version";
 
 
     public static final String COL_PRINCIPAL_PORTION = "principal_portion";
     public static final String COL_INTEREST_PORTION = "interest_portion";
     public static final String COL_INSTALLMENT_INTEREST_RATE = "installment_interest_rate";
 
+    // schedule reads are always "installments of a loan ordered by due date"
+    public static final String IDX_LOAN_DUE_DATE = "idx_loan_installments_loan_due_date";
+
+    public static final String SEQUENCE_NAME = "loan_installments_seq";
+    public static final String GENERATOR_NAME = "loanInstallmentGenerator";
+    // pooled ids: one sequence call covers a whole schedule, so inserts can be JDBC-batched
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = GENERATOR_NAME)
+    @SequenceGenerator(name = GENERATOR_NAME, sequenceName = SEQUENCE_NAME, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = COL_ID)
     private Long id;
 
@@ -58,4 +70,9 @@ public class LoanInstallment {
 
     @Column(name = COL_INSTALLMENT_INTEREST_RATE, precision = 5, scale = 4)
     private BigDecimal installmentInterestRate;
+
+    // optimistic concurrency (app.payment.concurrency=optimistic)
+    @Version
+    @Column(name = COL_VERSION)
+    private Long version;
 }
@@ -2,11 +2,43 @@ package com.ekiziltan.loan.repository;
 
 import com.ekiziltan.loan.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
     Optional<Customer> findByUsername(String username);
 
+    // adds to the used credit only if the limit still holds; 0 affected rows means it would not (or no such customer)
+    @Modifying
+    @Query("UPDATE VERSIONED Customer c SET c.usedCreditLimit = c.usedCreditLimit + :amount " +
+            "WHERE c.id = :customerId AND c.usedCreditLimit + :amount <= c.creditLimit")
+    int reserveCredit(@Param("customerId") Long customerId, @Param("amount") BigDecimal amount);
+
+    // rehash on login. Guarded by the old hash so a concurrent password change wins; no version bump, so
+    // credit updates of the same customer are not failed by it
+    @Transactional
+    @Modifying
+    @Query("UPDATE Customer c SET c.password = :newHash WHERE c.id = :customerId AND c.password = :oldHash")
+    int updatePasswordHash(@Param("customerId") Long customerId, @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+
+    // write-behind of the Hazelcast credit ledger; runs on a Hazelcast thread, outside any caller transaction
+    @Transactional
+    @Modifying
+    @Query("UPDATE VERSIONED Customer c SET c.usedCreditLimit = :usedCredit WHERE c.id = :customerId")
+    int updateUsedCredit(@Param("customerId") Long customerId, @Param("usedCredit") BigDecimal usedCredit);
+
+    // releases repaid principal in one statement without loading the customer; never drops below zero.
+    // VERSIONED bumps the version so a concurrent read-modify-write of the customer fails instead of overwriting it
+    @Modifying
+    @Query("UPDATE VERSIONED Customer c SET c.usedCreditLimit = CASE WHEN c.usedCreditLimit > :amount " +
+            "THEN c.usedCreditLimit - :amount ELSE 0 END WHERE c.id = :customerId")
+    int releaseUsedCredit(@Param("customerId") Long customerId, @Param("amount") BigDecimal amount);
+
 }
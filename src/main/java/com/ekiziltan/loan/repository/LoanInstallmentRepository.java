@@ -5,7 +5,10 @@ import com.ekiziltan.loan.entity.LoanInstallment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface LoanInstallmentRepository extends JpaRepository<LoanInstallment, Long> {
@@ -15,4 +18,11 @@ public interface LoanInstallmentRepository extends JpaRepository<LoanInstallment
 
 
     Page<LoanInstallment> findByLoan_IdOrderByDueDateAsc(Long loanId, Pageable pageable);
+
+    // range scan on (loan_id, due_date); paid rows and rows beyond the payment window are never read
+    @Query("SELECT i FROM LoanInstallment i WHERE i.loan.id = :loanId AND i.isPaid = false " +
+            "AND i.dueDate <= :limitDate ORDER BY i.dueDate ASC")
+    List<LoanInstallment> findPayableInstallments(@Param("loanId") Long loanId, @Param("limitDate") LocalDate limitDate);
+
+    long countByLoan_IdAndIsPaidFalse(Long loanId);
 }
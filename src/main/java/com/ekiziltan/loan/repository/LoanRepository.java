@@ -17,7 +17,16 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     Page<Loan> findByCustomer_Id(Long customerId, Pageable pageable);
 
+    // reads the foreign key column only: no loan entity, no customer join
+    @Query("SELECT l.customer.id FROM Loan l WHERE l.id = :loanId")
+    Optional<Long> findCustomerIdById(@Param("loanId") Long loanId);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT l FROM Loan l WHERE l.id = :loanId")
     Optional<Loan> findByIdWithLock(@Param("loanId") Long loanId);
+
+    // no row lock; the loan's version is bumped on commit so concurrent payments of the same loan conflict
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT l FROM Loan l WHERE l.id = :loanId")
+    Optional<Loan> findByIdForOptimisticUpdate(@Param("loanId") Long loanId);
 }
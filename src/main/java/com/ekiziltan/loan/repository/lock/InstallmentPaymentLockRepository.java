@@ -2,8 +2,16 @@ package com.ekiziltan.loan.repository.lock;
 
 import com.ekiziltan.loan.entity.InstallmentPaymentLock;
 import com.ekiziltan.loan.entity.LockStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InstallmentPaymentLockRepository extends JpaRepository<InstallmentPaymentLock, Long> {
@@ -11,4 +19,15 @@ public interface InstallmentPaymentLockRepository extends JpaRepository<Installm
     Optional<InstallmentPaymentLock> findByLoanIdAndStatus(Long loanId, LockStatus status);
 
     Optional<InstallmentPaymentLock> findByCustomerIdAndStatus(Long customerId, LockStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE InstallmentPaymentLock l SET l.status = :to, l.updatedDate = :now " +
+            "WHERE l.status = :from AND l.createdDate < :cutoff")
+    int updateStatusCreatedBefore(@Param("from") LockStatus from, @Param("to") LockStatus to,
+                                  @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+
+    @Query("SELECT l.id FROM InstallmentPaymentLock l WHERE l.status IN :statuses AND l.createdDate < :cutoff")
+    List<Long> findIdsByStatusInCreatedBefore(@Param("statuses") Collection<LockStatus> statuses,
+                                              @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package com.ekiziltan.loan.service;
+
+import com.ekiziltan.loan.dto.BulkLoanCreationResponse;
+import com.ekiziltan.loan.dto.CreateLoanRequest;
+
+import java.util.List;
+
+public interface BulkLoanCreationService extends LoanBase<List<CreateLoanRequest>, BulkLoanCreationResponse> {
+}
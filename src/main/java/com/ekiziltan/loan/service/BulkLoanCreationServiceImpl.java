@@ -0,0 +1,205 @@
+package com.ekiziltan.loan.service;
+
+import com.ekiziltan.loan.dto.BulkLoanCreationResponse;
+import com.ekiziltan.loan.dto.BulkLoanItemResult;
+import com.ekiziltan.loan.dto.BulkLoanItemStatus;
+import com.ekiziltan.loan.dto.CreateLoanRequest;
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import com.ekiziltan.loan.repository.LoanInstallmentRepository;
+import com.ekiziltan.loan.repository.LoanRepository;
+import com.ekiziltan.loan.service.cache.LoanCacheEvictor;
+import com.ekiziltan.loan.service.cache.LoanOwnerCache;
+import com.ekiziltan.loan.service.credit.CreditLedger;
+import com.ekiziltan.loan.service.lock.InstallmentPaymentLockService;
+import com.ekiziltan.loan.service.lock.LoanApplicationLockService;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import com.ekiziltan.loan.validations.LoanValidator;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many loans in one call. Requests are validated, grouped per customer and persisted
+ * chunk by chunk, each chunk in its own transaction with batched loan and installment inserts.
+ * A customer's loans always land in the same chunk and reserve credit one after the other through the
+ * {@link CreditLedger}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class BulkLoanCreationServiceImpl implements BulkLoanCreationService {
+
+    private final LoanApplicationLockService loanApplicationLockService;
+    private final InstallmentPaymentLockService installmentPaymentLockService;
+    private final CustomerRepository customerRepository;
+    private final LoanRepository loanRepository;
+    private final LoanInstallmentRepository installmentRepository;
+    private final LoanFactory loanFactory;
+    private final LoanCacheEvictor loanCacheEvictor;
+    private final CreditLedger creditLedger;
+    private final LoanOwnerCache loanOwnerCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${app.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public BulkLoanCreationResponse execute(List<CreateLoanRequest> requests) {
+        BulkLoanItemResult[] results = new BulkLoanItemResult[requests.size()];
+
+        validate(requests, results);
+
+        for (Map<Long, List<Integer>> chunk : chunkByCustomer(requests, results)) {
+            persistChunk(requests, chunk, results);
+        }
+
+        return buildResponse(results);
+    }
+
+    private void validate(List<CreateLoanRequest> requests, BulkLoanItemResult[] results) {
+        for (int index = 0; index < requests.size(); index++) {
+            CreateLoanRequest request = requests.get(index);
+            try {
+                if (request == null || request.getCustomerId() == null) {
+                    throw new IllegalArgumentException(LoanServiceConstants.ERROR_INVALID_LOAN_REQUEST);
+                }
+                LoanValidator.validateCreateLoanRequest(request);
+            } catch (ApiException e) {
+                results[index] = BulkLoanItemResult.rejected(index, request.getCustomerId(), e.getMessage());
+            } catch (RuntimeException e) {
+                results[index] = BulkLoanItemResult.rejected(index, customerIdOf(request),
+                        LoanServiceConstants.ERROR_INVALID_LOAN_REQUEST);
+            }
+        }
+    }
+
+    private List<Map<Long, List<Integer>>> chunkByCustomer(List<CreateLoanRequest> requests, BulkLoanItemResult[] results) {
+        Map<Long, List<Integer>> byCustomer = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            if (results[index] == null) {
+                byCustomer.computeIfAbsent(requests.get(index).getCustomerId(), id -> new ArrayList<>()).add(index);
+            }
+        }
+
+        List<Map<Long, List<Integer>>> chunks = new ArrayList<>();
+        Map<Long, List<Integer>> current = new LinkedHashMap<>();
+        int currentSize = 0;
+        for (Map.Entry<Long, List<Integer>> group : byCustomer.entrySet()) {
+            if (currentSize > 0 && currentSize + group.getValue().size() > chunkSize) {
+                chunks.add(current);
+                current = new LinkedHashMap<>();
+                currentSize = 0;
+            }
+            current.put(group.getKey(), group.getValue());
+            currentSize += group.getValue().size();
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private void persistChunk(List<CreateLoanRequest> requests, Map<Long, List<Integer>> chunk, BulkLoanItemResult[] results) {
+        Map<Integer, BulkLoanItemResult> chunkResults = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> createChunk(requests, chunk, chunkResults));
+            chunkResults.forEach((index, result) -> results[index] = result);
+        } catch (RuntimeException e) {
+            log.error("Bulk loan chunk of {} customers failed", chunk.size(), e);
+            chunk.forEach((customerId, indexes) -> indexes.forEach(index ->
+                    results[index] = BulkLoanItemResult.failed(index, customerId,
+                            LoanServiceConstants.ERROR_BULK_CHUNK_FAILED)));
+        } finally {
+            // keep the persistence context from growing across chunks when open-in-view holds it for the request
+            entityManager.clear();
+        }
+    }
+
+    private void createChunk(List<CreateLoanRequest> requests, Map<Long, List<Integer>> chunk,
+                             Map<Integer, BulkLoanItemResult> chunkResults) {
+        List<Loan> loans = new ArrayList<>();
+        List<LoanInstallment> installments = new ArrayList<>();
+        Map<Integer, Loan> createdLoans = new HashMap<>();
+        List<Long> lockedCustomerIds = new ArrayList<>();
+
+        for (Map.Entry<Long, List<Integer>> group : chunk.entrySet()) {
+            Long customerId = group.getKey();
+            try {
+                installmentPaymentLockService.checkLockExists(customerId);
+                loanApplicationLockService.createLock(customerId);
+            } catch (ApiException e) {
+                rejectGroup(group, e.getMessage(), chunkResults);
+                continue;
+            }
+            lockedCustomerIds.add(customerId);
+            // a successful reservation proves the customer exists (an unknown one is rejected by the ledger),
+            // so the loans only need a reference to it
+            Customer customer = customerRepository.getReferenceById(customerId);
+
+            for (Integer index : group.getValue()) {
+                CreateLoanRequest request = requests.get(index);
+                try {
+                    creditLedger.reserve(customerId, request.getPrincipalAmount());
+                } catch (ApiException e) {
+                    chunkResults.put(index, BulkLoanItemResult.rejected(index, customerId, e.getMessage()));
+                    continue;
+                }
+
+                Loan loan = loanFactory.createLoanEntity(customer, request);
+                loans.add(loan);
+                installments.addAll(loanFactory.createLoanInstallments(loan));
+                createdLoans.put(index, loan);
+            }
+        }
+
+        loanRepository.saveAll(loans);
+        installmentRepository.saveAll(installments);
+        entityManager.flush();
+
+        lockedCustomerIds.forEach(loanApplicationLockService::markLockAsDone);
+        lockedCustomerIds.forEach(loanCacheEvictor::evictCustomer);
+        createdLoans.values().forEach(loan -> loanOwnerCache.register(loan.getId(), loan.getCustomer().getId()));
+        createdLoans.forEach((index, loan) ->
+                chunkResults.put(index, BulkLoanItemResult.created(index, loan.getCustomer().getId(), loan.getId())));
+    }
+
+    private static void rejectGroup(Map.Entry<Long, List<Integer>> group, String message,
+                                    Map<Integer, BulkLoanItemResult> chunkResults) {
+        group.getValue().forEach(index ->
+                chunkResults.put(index, BulkLoanItemResult.rejected(index, group.getKey(), message)));
+    }
+
+    private static Long customerIdOf(CreateLoanRequest request) {
+        return request != null ? request.getCustomerId() : null;
+    }
+
+    private static BulkLoanCreationResponse buildResponse(BulkLoanItemResult[] results) {
+        Map<BulkLoanItemStatus, Long> counts = Arrays.stream(results)
+                .collect(Collectors.groupingBy(BulkLoanItemResult::getStatus, Collectors.counting()));
+        return BulkLoanCreationResponse.builder()
+                .requested(results.length)
+                .created(counts.getOrDefault(BulkLoanItemStatus.CREATED, 0L).intValue())
+                .rejected(counts.getOrDefault(BulkLoanItemStatus.REJECTED, 0L).intValue())
+                .failed(counts.getOrDefault(BulkLoanItemStatus.FAILED, 0L).intValue())
+                .results(Arrays.asList(results))
+                .build();
+    }
+}
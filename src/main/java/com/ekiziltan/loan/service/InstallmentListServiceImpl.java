@@ -2,12 +2,9 @@ package com.ekiziltan.loan.service;
 
 import com.ekiziltan.loan.dto.ListInstallmentRequest;
 import com.ekiziltan.loan.dto.LoanInstallmentDTO;
-import com.ekiziltan.loan.entity.LoanInstallment;
-import com.ekiziltan.loan.repository.LoanInstallmentRepository;
-import com.ekiziltan.loan.utils.mapper.LoanMapper;
+import com.ekiziltan.loan.service.cache.InstallmentScheduleCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
@@ -17,14 +14,26 @@ import java.util.List;
 @Service
 public class InstallmentListServiceImpl implements InstallmentListService {
 
-    private final LoanInstallmentRepository installmentRepository;
+    private final InstallmentScheduleCache installmentScheduleCache;
 
 
     @Override
     @PreAuthorize("hasRole('ADMIN') or @loanOwnerSecurityService.isLoanOwner(#request.loanId, principal.customerId)")
-    @Cacheable(value = "installmentsCache", key = "#request.loanId")
     public List<LoanInstallmentDTO> execute(ListInstallmentRequest request) {
-        Page<LoanInstallment> installmentsPage = installmentRepository.findByLoan_IdOrderByDueDateAsc(request.getLoanId(),request.getPageable());
-        return installmentsPage.map(LoanMapper::entityToInstallmentDTO).getContent();
+        List<LoanInstallmentDTO> schedule = installmentScheduleCache.getSchedule(request.getLoanId());
+        return slice(schedule, request.getPageable());
+    }
+
+    // pages are cut from the cached schedule, which is already ordered by due date
+    private static List<LoanInstallmentDTO> slice(List<LoanInstallmentDTO> schedule, Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return schedule;
+        }
+        if (pageable.getOffset() >= schedule.size()) {
+            return List.of();
+        }
+        int from = (int) pageable.getOffset();
+        int to = Math.min(from + pageable.getPageSize(), schedule.size());
+        return schedule.subList(from, to);
     }
 }
@@ -0,0 +1,72 @@
+package com.ekiziltan.loan.service;
+
+import com.ekiziltan.loan.dto.CreateLoanRequest;
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.service.amortization.AmortizationEngine;
+import com.ekiziltan.loan.service.amortization.AmortizationSchedule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds loan entities and their amortization schedules. Shared by single and bulk loan creation
+ * so both paths produce identical loans.
+ */
+@RequiredArgsConstructor
+@Component
+public class LoanFactory {
+
+    private final AmortizationEngine amortizationEngine;
+
+    public Loan createLoanEntity(Customer customer, CreateLoanRequest request) {
+        BigDecimal totalLoanAmount = totalLoanAmount(request.getPrincipalAmount(), request.getInterestRate());
+
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setLoanAmount(totalLoanAmount);
+        loan.setNumberOfInstallment(request.getNumberOfInstallment());
+        loan.setInterestAmount(totalLoanAmount.subtract(request.getPrincipalAmount()));
+        loan.setInterestRate(request.getInterestRate());
+        loan.setPrincipalAmount(request.getPrincipalAmount());
+        loan.setCreateDate(LocalDate.now(ZoneId.of("UTC")));
+        loan.setIsPaid(false);
+        return loan;
+    }
+
+    public List<LoanInstallment> createLoanInstallments(Loan loan) {
+        AmortizationSchedule schedule = amortizationEngine.schedule(
+                loan.getPrincipalAmount(), loan.getInterestRate(), loan.getNumberOfInstallment());
+
+        LocalDate firstInstallmentDueDate = LocalDate.now(ZoneId.of("UTC"))
+                .plusMonths(1)
+                .withDayOfMonth(1);
+
+        List<LoanInstallment> installments = new ArrayList<>(schedule.size());
+        for (int installmentIndex = 0; installmentIndex < schedule.size(); installmentIndex++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setLoan(loan);
+            installment.setIsPaid(false);
+            installment.setPaidAmount(BigDecimal.ZERO);
+            installment.setDueDate(firstInstallmentDueDate.plusMonths(installmentIndex));
+            installment.setAmount(AmortizationEngine.fromCents(schedule.amount(installmentIndex)));
+            installment.setPrincipalPortion(AmortizationEngine.fromCents(schedule.principal(installmentIndex)));
+            installment.setInterestPortion(AmortizationEngine.fromCents(schedule.interest(installmentIndex)));
+            installment.setInstallmentInterestRate(schedule.monthlyInterestRate());
+            installments.add(installment);
+        }
+        return installments;
+    }
+
+    // the loan amount on record is principal * (1 + rate), independent of the installment schedule
+    public static BigDecimal totalLoanAmount(BigDecimal principalAmount, double interestRate) {
+        BigDecimal interestFactor = BigDecimal.valueOf(1).add(BigDecimal.valueOf(interestRate));
+        return principalAmount.multiply(interestFactor);
+    }
+}
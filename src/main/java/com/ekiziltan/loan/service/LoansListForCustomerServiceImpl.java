@@ -5,6 +5,7 @@ import com.ekiziltan.loan.dto.LoanListForCustomerRequest;
 import com.ekiziltan.loan.entity.Loan;
 import com.ekiziltan.loan.repository.LoanRepository;
 import com.ekiziltan.loan.repository.specifications.LoanSpecifications;
+import com.ekiziltan.loan.service.cache.LoanCacheKeys;
 import com.ekiziltan.loan.utils.mapper.LoanMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
@@ -27,9 +28,7 @@ public class LoansListForCustomerServiceImpl implements LoansListForCustomerServ
 
     @Override
     @PreAuthorize("hasRole('ADMIN') or #request.customerId == principal.customerId")
-    @Cacheable(value = "loansCache", key = "{#request.customerId, #request.pageable.pageNumber, #request.pageable.pageSize, " +
-            "#request.numberOfInstallment, #request.createDateFrom, #request.createDateTo, " +
-            "#request.isPaid}")
+    @Cacheable(value = LoanCacheKeys.LOANS_CACHE, key = "@loanCacheKeys.customerLoans(#request)")
     public List<LoanDTO> execute(LoanListForCustomerRequest request) {
         Specification<Loan> spec = Specification.where(LoanSpecifications.hasCustomerId(request.getCustomerId()));
 
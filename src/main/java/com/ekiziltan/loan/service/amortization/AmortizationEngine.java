@@ -0,0 +1,80 @@
+package com.ekiziltan.loan.service.amortization;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Annuity schedules in integer cents. The annual rate is taken in millionths, so each row's interest is an
+ * exact {@code balance * rate / (12 * 1_000_000)} rounded half up, with no {@code BigDecimal} or
+ * {@code double} math inside the row loop. The annuity payment is one multiply by a factor from the
+ * {@link AnnuityFactorTable}. The last row pays off whatever balance is left, so rounding never leaves residual cents.
+ * A principal too large for that arithmetic fails with an {@link ArithmeticException} instead of wrapping around;
+ * {@code LoanValidator} keeps requests well below it.
+ * <p>
+ * resource: https://en.wikipedia.org/wiki/Amortization_calculator
+ */
+@RequiredArgsConstructor
+@Component
+public class AmortizationEngine {
+
+    static final long RATE_SCALE = 1_000_000L;
+    private static final long MONTHLY_RATE_DIVISOR = 12 * RATE_SCALE;
+    private static final int MONTHLY_RATE_DISPLAY_SCALE = 4;
+
+    private final AnnuityFactorTable annuityFactorTable;
+
+    public AmortizationSchedule schedule(BigDecimal principal, double annualInterestRate, int installmentCount) {
+        return schedule(toCents(principal), toRateMicros(annualInterestRate), installmentCount);
+    }
+
+    public AmortizationSchedule schedule(long principalCents, long annualRateMicros, int installmentCount) {
+        long payment = paymentCents(principalCents, annualRateMicros, installmentCount);
+        long[] amounts = new long[installmentCount];
+        long[] principals = new long[installmentCount];
+        long[] interests = new long[installmentCount];
+
+        long balance = principalCents;
+        int last = installmentCount - 1;
+        for (int i = 0; i < installmentCount; i++) {
+            long interest = divideHalfUp(Math.multiplyExact(balance, annualRateMicros), MONTHLY_RATE_DIVISOR);
+            long principal = i == last ? balance : Math.min(Math.max(payment - interest, 0), balance);
+            principals[i] = principal;
+            interests[i] = interest;
+            amounts[i] = principal + interest;
+            balance -= principal;
+        }
+        return new AmortizationSchedule(amounts, principals, interests, monthlyRate(annualRateMicros));
+    }
+
+    public long paymentCents(long principalCents, long annualRateMicros, int installmentCount) {
+        if (annualRateMicros == 0) {
+            return divideHalfUp(principalCents, installmentCount);
+        }
+        return Math.round(principalCents * annuityFactorTable.factor(annualRateMicros, installmentCount));
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static long toRateMicros(double annualInterestRate) {
+        return Math.round(annualInterestRate * RATE_SCALE);
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static BigDecimal monthlyRate(long annualRateMicros) {
+        return BigDecimal.valueOf(annualRateMicros)
+                .divide(BigDecimal.valueOf(MONTHLY_RATE_DIVISOR), MONTHLY_RATE_DISPLAY_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // non-negative operands only
+    private static long divideHalfUp(long dividend, long divisor) {
+        return (dividend + divisor / 2) / divisor;
+    }
+}
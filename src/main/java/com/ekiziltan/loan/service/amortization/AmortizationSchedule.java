@@ -0,0 +1,43 @@
+package com.ekiziltan.loan.service.amortization;
+
+import java.math.BigDecimal;
+
+/**
+ * An installment plan in minor units (cents). Row {@code i} is {@code amount(i) = principal(i) + interest(i)};
+ * the principal column always sums to the loan principal.
+ */
+public final class AmortizationSchedule {
+
+    private final long[] amounts;
+    private final long[] principals;
+    private final long[] interests;
+    private final BigDecimal monthlyInterestRate;
+
+    AmortizationSchedule(long[] amounts, long[] principals, long[] interests, BigDecimal monthlyInterestRate) {
+        this.amounts = amounts;
+        this.principals = principals;
+        this.interests = interests;
+        this.monthlyInterestRate = monthlyInterestRate;
+    }
+
+    public int size() {
+        return amounts.length;
+    }
+
+    public long amount(int index) {
+        return amounts[index];
+    }
+
+    public long principal(int index) {
+        return principals[index];
+    }
+
+    public long interest(int index) {
+        return interests[index];
+    }
+
+    /** The monthly rate at the scale the installments store it. */
+    public BigDecimal monthlyInterestRate() {
+        return monthlyInterestRate;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ekiziltan.loan.service.amortization;
+
+import com.ekiziltan.loan.validations.LoanValidator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Annuity factors for every whole basis point between the minimum and maximum interest rate and every
+ * allowed installment count, computed once at startup. Rates off the basis point grid (or outside the
+ * validated range) fall back to computing the factor; both paths give the same double.
+ */
+@Component
+public class AnnuityFactorTable {
+
+    private static final long MICROS_PER_BPS = 100;
+
+    private final int[] installmentCounts;
+    private final long minBps;
+    private final long maxBps;
+    private final double[][] factors;
+
+    public AnnuityFactorTable() {
+        this.installmentCounts = LoanValidator.ALLOWED_INSTALLMENT_COUNTS.stream().mapToInt(Integer::intValue).toArray();
+        this.minBps = Math.round(LoanValidator.MIN_INTEREST_RATE * AmortizationEngine.RATE_SCALE / MICROS_PER_BPS);
+        this.maxBps = Math.round(LoanValidator.MAX_INTEREST_RATE * AmortizationEngine.RATE_SCALE / MICROS_PER_BPS);
+        this.factors = new double[installmentCounts.length][(int) (maxBps - minBps + 1)];
+        for (int countIndex = 0; countIndex < installmentCounts.length; countIndex++) {
+            for (long bps = minBps; bps <= maxBps; bps++) {
+                factors[countIndex][(int) (bps - minBps)] = compute(bps * MICROS_PER_BPS, installmentCounts[countIndex]);
+            }
+        }
+    }
+
+    public double factor(long annualRateMicros, int installmentCount) {
+        int countIndex = indexOf(installmentCount);
+        long bps = annualRateMicros / MICROS_PER_BPS;
+        if (countIndex < 0 || annualRateMicros % MICROS_PER_BPS != 0 || bps < minBps || bps > maxBps) {
+            return compute(annualRateMicros, installmentCount);
+        }
+        return factors[countIndex][(int) (bps - minBps)];
+    }
+
+    // r / (1 - (1 + r)^-n), the payment per unit of principal
+    static double compute(long annualRateMicros, int installmentCount) {
+        double monthlyRate = (double) annualRateMicros / (12 * AmortizationEngine.RATE_SCALE);
+        return monthlyRate / (1 - Math.pow(1 + monthlyRate, -installmentCount));
+    }
+
+    private int indexOf(int installmentCount) {
+        for (int i = 0; i < installmentCounts.length; i++) {
+            if (installmentCounts[i] == installmentCount) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Cached value of {@code installmentsCache}: a loan's installments ordered by due date.
+ */
+@Getter
+@RequiredArgsConstructor
+public class InstallmentSchedule implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long loanId;
+    private final List<LoanInstallmentDTO> installments;
+}
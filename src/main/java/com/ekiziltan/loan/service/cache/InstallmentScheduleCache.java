@@ -0,0 +1,105 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.repository.LoanInstallmentRepository;
+import com.ekiziltan.loan.utils.mapper.LoanMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the complete installment schedule of a loan as one {@code installmentsCache} entry, so every page
+ * of the schedule is served from a single database read. A pessimistic payment does not evict the entry but
+ * patches the installments it paid into it, once its transaction has committed.
+ */
+@RequiredArgsConstructor
+@Component
+public class InstallmentScheduleCache {
+
+    private final CacheManager cacheManager;
+    private final LoanInstallmentRepository installmentRepository;
+
+    // an empty schedule (unknown or not yet committed loan) is not cached, so the loan is found once it exists.
+    // putIfAbsent keeps a schedule written by a payment meanwhile instead of overwriting it with rows read before
+    public List<LoanInstallmentDTO> getSchedule(Long loanId) {
+        String key = LoanCacheKeys.loanSchedule(loanId);
+        InstallmentSchedule schedule = cache().get(key, InstallmentSchedule.class);
+        if (schedule == null) {
+            schedule = load(loanId);
+            if (!schedule.getInstallments().isEmpty()) {
+                cache().putIfAbsent(key, schedule);
+            }
+        }
+        return schedule.getInstallments();
+    }
+
+    public void applyPayments(Long loanId, List<LoanInstallment> paidInstallments) {
+        if (paidInstallments.isEmpty()) {
+            return;
+        }
+        Map<Long, LoanInstallmentDTO> paid = paidInstallments.stream()
+                .map(LoanMapper::entityToInstallmentDTO)
+                .collect(Collectors.toMap(LoanInstallmentDTO::getId, Function.identity()));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    patch(loanId, paid);
+                }
+            });
+        } else {
+            patch(loanId, paid);
+        }
+    }
+
+    // only called for pessimistic payments, which hold the loan lock until after this runs, so patches of one
+    // loan never interleave. Optimistic payments evict instead. A reader may have loaded the schedule before
+    // the payment committed and not put it yet: on a miss the committed schedule is put, so that reader's
+    // putIfAbsent finds it and its stale rows are dropped
+    private void patch(Long loanId, Map<Long, LoanInstallmentDTO> paid) {
+        String key = LoanCacheKeys.loanSchedule(loanId);
+        InstallmentSchedule cached = cache().get(key, InstallmentSchedule.class);
+        if (cached == null) {
+            cache().put(key, load(loanId));
+            return;
+        }
+        List<LoanInstallmentDTO> installments = cached.getInstallments().stream()
+                .map(installment -> paid.getOrDefault(installment.getId(), installment))
+                .toList();
+        cache().put(key, new InstallmentSchedule(loanId, installments));
+    }
+
+    public void evict(Long loanId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(LoanCacheKeys.loanSchedule(loanId));
+                }
+            });
+        } else {
+            cache().evict(LoanCacheKeys.loanSchedule(loanId));
+        }
+    }
+
+    private InstallmentSchedule load(Long loanId) {
+        return toSchedule(loanId, installmentRepository.findByLoan_IdOrderByDueDateAsc(loanId));
+    }
+
+    private static InstallmentSchedule toSchedule(Long loanId, List<LoanInstallment> installments) {
+        return new InstallmentSchedule(loanId, installments.stream().map(LoanMapper::entityToInstallmentDTO).toList());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(LoanCacheKeys.INSTALLMENTS_CACHE);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.query.Predicates;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts only the cache entries of the customer a write touched, instead of clearing the whole
+ * cluster wide cache. Inside a transaction the eviction runs after commit, so a concurrent read cannot
+ * re-cache the old state between the eviction and the commit.
+ */
+@RequiredArgsConstructor
+@Component
+public class LoanCacheEvictor {
+
+    private static final String KEY_ATTRIBUTE = "__key";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    public void evictCustomer(Long customerId) {
+        evictPrefix(LoanCacheKeys.LOANS_CACHE, LoanCacheKeys.customerPrefix(customerId));
+    }
+
+    private void evictPrefix(String cacheName, String prefix) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeByPrefix(cacheName, prefix);
+                }
+            });
+        } else {
+            removeByPrefix(cacheName, prefix);
+        }
+    }
+
+    private void removeByPrefix(String cacheName, String prefix) {
+        hazelcastInstance.getMap(cacheName).removeAll(Predicates.like(KEY_ATTRIBUTE, prefix + "%"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.dto.LoanListForCustomerRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the string keys of {@code loansCache} and {@code installmentsCache}. Every key starts with the
+ * prefix of the customer or loan it belongs to, so all page / filter variants of one owner can be evicted
+ * together (see {@link LoanCacheEvictor}) without touching other owners' entries.
+ * Used from {@code @Cacheable} key expressions as {@code @loanCacheKeys}.
+ * A loan's installments are cached as one schedule entry (see {@link InstallmentScheduleCache}).
+ * {@code loanOwnersCache} is keyed by the loan id itself (see {@link LoanOwnerCache}).
+ */
+@Component("loanCacheKeys")
+public class LoanCacheKeys {
+
+    public static final String LOANS_CACHE = "loansCache";
+    public static final String INSTALLMENTS_CACHE = "installmentsCache";
+    public static final String LOAN_OWNERS_CACHE = "loanOwnersCache";
+
+    private static final String CUSTOMER_PREFIX = "customer:";
+    private static final String LOAN_PREFIX = "loan:";
+    private static final String SEPARATOR = ":";
+
+    public String customerLoans(LoanListForCustomerRequest request) {
+        return customerPrefix(request.getCustomerId())
+                + request.getPageable().getPageNumber() + SEPARATOR
+                + request.getPageable().getPageSize() + SEPARATOR
+                + request.getNumberOfInstallment() + SEPARATOR
+                + request.getCreateDateFrom() + SEPARATOR
+                + request.getCreateDateTo() + SEPARATOR
+                + request.getIsPaid();
+    }
+
+    public static String loanSchedule(Long loanId) {
+        return loanPrefix(loanId) + "schedule";
+    }
+
+    // the trailing separator keeps customer:1 from matching customer:12
+    public static String customerPrefix(Long customerId) {
+        return CUSTOMER_PREFIX + customerId + SEPARATOR;
+    }
+
+    public static String loanPrefix(Long loanId) {
+        return LOAN_PREFIX + loanId + SEPARATOR;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.repository.LoanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * loanId to customerId in {@code loanOwnersCache}, for the ownership checks of {@code @PreAuthorize}.
+ * A loan never changes owner, so entries are never evicted on writes; new loans are registered when their
+ * transaction commits and older ones are loaded with a single-column query on first use.
+ */
+@RequiredArgsConstructor
+@Component
+public class LoanOwnerCache {
+
+    private final CacheManager cacheManager;
+    private final LoanRepository loanRepository;
+
+    // null when the loan does not exist; misses are not cached, so a loan created later is still found
+    public Long getOwner(Long loanId) {
+        Long customerId = cache().get(loanId, Long.class);
+        if (customerId == null) {
+            customerId = loanRepository.findCustomerIdById(loanId).orElse(null);
+            if (customerId != null) {
+                cache().put(loanId, customerId);
+            }
+        }
+        return customerId;
+    }
+
+    public void register(Long loanId, Long customerId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().put(loanId, customerId);
+                }
+            });
+        } else {
+            cache().put(loanId, customerId);
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(LoanCacheKeys.LOAN_OWNERS_CACHE);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.hazelcast.config.SerializationConfig;
+
+/**
+ * Registers the compact serializers of the cached values. Lists of {@code LoanDTO} are stored as
+ * {@code ArrayList}, whose built-in Hazelcast serializer hands each element to these serializers.
+ */
+public final class CacheSerializers {
+
+    private CacheSerializers() {
+    }
+
+    public static SerializationConfig register(SerializationConfig serializationConfig) {
+        serializationConfig.getCompactSerializationConfig()
+                .addSerializer(new LoanDTOSerializer())
+                .addSerializer(new LoanInstallmentDTOSerializer())
+                .addSerializer(new InstallmentScheduleSerializer())
+                .addSerializer(new CreditExposureSerializer());
+        return serializationConfig;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.ekiziltan.loan.service.credit.CreditExposure;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+/**
+ * Compact serializer of {@link CreditExposure}, used for backups and write-behind of the exposure map.
+ */
+public class CreditExposureSerializer implements CompactSerializer<CreditExposure> {
+
+    @Override
+    public CreditExposure read(CompactReader reader) {
+        return new CreditExposure(reader.readDecimal("creditLimit"), reader.readDecimal("usedCredit"));
+    }
+
+    @Override
+    public void write(CompactWriter writer, CreditExposure exposure) {
+        writer.writeDecimal("creditLimit", exposure.getCreditLimit());
+        writer.writeDecimal("usedCredit", exposure.getUsedCredit());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "creditExposure";
+    }
+
+    @Override
+    public Class<CreditExposure> getCompactClass() {
+        return CreditExposure.class;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.service.cache.InstallmentSchedule;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+import java.util.List;
+
+/**
+ * Compact serializer of cached {@link InstallmentSchedule}s. The installments are written as one array of
+ * compact {@link LoanInstallmentDTO}s, so a whole schedule is a single entry with no per-row field names.
+ */
+public class InstallmentScheduleSerializer implements CompactSerializer<InstallmentSchedule> {
+
+    @Override
+    public InstallmentSchedule read(CompactReader reader) {
+        Long loanId = reader.readNullableInt64("loanId");
+        LoanInstallmentDTO[] installments = reader.readArrayOfCompact("installments", LoanInstallmentDTO.class);
+        return new InstallmentSchedule(loanId, List.of(installments));
+    }
+
+    @Override
+    public void write(CompactWriter writer, InstallmentSchedule schedule) {
+        writer.writeNullableInt64("loanId", schedule.getLoanId());
+        writer.writeArrayOfCompact("installments", schedule.getInstallments().toArray(new LoanInstallmentDTO[0]));
+    }
+
+    @Override
+    public String getTypeName() {
+        return "installmentSchedule";
+    }
+
+    @Override
+    public Class<InstallmentSchedule> getCompactClass() {
+        return InstallmentSchedule.class;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.ekiziltan.loan.dto.LoanDTO;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+/**
+ * Compact serializer of cached {@link LoanDTO}s. The field layout is written once per schema, not per
+ * object as Java serialization does, and amounts and dates are stored as plain values.
+ */
+public class LoanDTOSerializer implements CompactSerializer<LoanDTO> {
+
+    @Override
+    public LoanDTO read(CompactReader reader) {
+        LoanDTO dto = new LoanDTO();
+        dto.setId(reader.readNullableInt64("id"));
+        dto.setCustomerId(reader.readNullableInt64("customerId"));
+        dto.setLoanAmount(reader.readDecimal("loanAmount"));
+        dto.setInterestRate(reader.readNullableFloat64("interestRate"));
+        dto.setPrincipalAmount(reader.readDecimal("principalAmount"));
+        dto.setInterestAmount(reader.readDecimal("interestAmount"));
+        dto.setNumberOfInstallment(reader.readNullableInt32("numberOfInstallment"));
+        dto.setCreateDate(reader.readDate("createDate"));
+        dto.setIsPaid(reader.readNullableBoolean("isPaid"));
+        return dto;
+    }
+
+    @Override
+    public void write(CompactWriter writer, LoanDTO dto) {
+        writer.writeNullableInt64("id", dto.getId());
+        writer.writeNullableInt64("customerId", dto.getCustomerId());
+        writer.writeDecimal("loanAmount", dto.getLoanAmount());
+        writer.writeNullableFloat64("interestRate", dto.getInterestRate());
+        writer.writeDecimal("principalAmount", dto.getPrincipalAmount());
+        writer.writeDecimal("interestAmount", dto.getInterestAmount());
+        writer.writeNullableInt32("numberOfInstallment", dto.getNumberOfInstallment());
+        writer.writeDate("createDate", dto.getCreateDate());
+        writer.writeNullableBoolean("isPaid", dto.getIsPaid());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "loan";
+    }
+
+    @Override
+    public Class<LoanDTO> getCompactClass() {
+        return LoanDTO.class;
+    }
+}
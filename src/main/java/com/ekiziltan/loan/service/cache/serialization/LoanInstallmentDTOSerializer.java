@@ -0,0 +1,53 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+
+/**
+ * Compact serializer of {@link LoanInstallmentDTO}. Every field is written, including the loan id, so an
+ * installment round-trips the same standalone as inside an {@link InstallmentScheduleSerializer} schedule.
+ */
+public class LoanInstallmentDTOSerializer implements CompactSerializer<LoanInstallmentDTO> {
+
+    @Override
+    public LoanInstallmentDTO read(CompactReader reader) {
+        LoanInstallmentDTO dto = new LoanInstallmentDTO();
+        dto.setId(reader.readNullableInt64("id"));
+        dto.setLoanId(reader.readNullableInt64("loanId"));
+        dto.setAmount(reader.readDecimal("amount"));
+        dto.setPaidAmount(reader.readDecimal("paidAmount"));
+        dto.setDueDate(reader.readDate("dueDate"));
+        dto.setPaymentDate(reader.readDate("paymentDate"));
+        dto.setIsPaid(reader.readNullableBoolean("isPaid"));
+        dto.setPrincipalPortion(reader.readDecimal("principalPortion"));
+        dto.setInterestPortion(reader.readDecimal("interestPortion"));
+        dto.setInstallmentInterestRate(reader.readDecimal("installmentInterestRate"));
+        return dto;
+    }
+
+    @Override
+    public void write(CompactWriter writer, LoanInstallmentDTO dto) {
+        writer.writeNullableInt64("id", dto.getId());
+        writer.writeNullableInt64("loanId", dto.getLoanId());
+        writer.writeDecimal("amount", dto.getAmount());
+        writer.writeDecimal("paidAmount", dto.getPaidAmount());
+        writer.writeDate("dueDate", dto.getDueDate());
+        writer.writeDate("paymentDate", dto.getPaymentDate());
+        writer.writeNullableBoolean("isPaid", dto.getIsPaid());
+        writer.writeDecimal("principalPortion", dto.getPrincipalPortion());
+        writer.writeDecimal("interestPortion", dto.getInterestPortion());
+        writer.writeDecimal("installmentInterestRate", dto.getInstallmentInterestRate());
+    }
+
+    @Override
+    public String getTypeName() {
+        return "loanInstallment";
+    }
+
+    @Override
+    public Class<LoanInstallmentDTO> getCompactClass() {
+        return LoanInstallmentDTO.class;
+    }
+}
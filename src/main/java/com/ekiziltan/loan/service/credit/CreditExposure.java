@@ -0,0 +1,26 @@
+package com.ekiziltan.loan.service.credit;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * A customer's credit limit and the part of it in use, as held by the {@link HazelcastCreditLedger}.
+ * Immutable so an entry processor replaces the value instead of mutating a shared instance.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CreditExposure {
+
+    private final BigDecimal creditLimit;
+    private final BigDecimal usedCredit;
+
+    public CreditExposure withUsedCredit(BigDecimal newUsedCredit) {
+        return new CreditExposure(creditLimit, newUsedCredit);
+    }
+}
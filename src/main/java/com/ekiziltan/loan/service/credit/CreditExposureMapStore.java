@@ -0,0 +1,69 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import com.hazelcast.map.MapStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Backs the credit exposure map with the {@code customers} table. Entries are loaded on first access and
+ * the used credit is written behind, so reservations never wait for MySQL. Removing an entry from the map
+ * never deletes the customer.
+ * <p>
+ * The repository is resolved on first use: the entity manager factory waits for the cache manager, which
+ * waits for the Hazelcast member this store is configured on.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.credit.ledger", havingValue = "hazelcast")
+public class CreditExposureMapStore implements MapStore<Long, CreditExposure> {
+
+    private final ObjectProvider<CustomerRepository> customerRepository;
+
+    @Override
+    public CreditExposure load(Long customerId) {
+        return customerRepository.getObject().findById(customerId).map(CreditExposureMapStore::toExposure).orElse(null);
+    }
+
+    @Override
+    public Map<Long, CreditExposure> loadAll(Collection<Long> customerIds) {
+        return customerRepository.getObject().findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getId, CreditExposureMapStore::toExposure));
+    }
+
+    @Override
+    public Iterable<Long> loadAllKeys() {
+        // loaded lazily, per customer
+        return null;
+    }
+
+    @Override
+    public void store(Long customerId, CreditExposure exposure) {
+        customerRepository.getObject().updateUsedCredit(customerId, exposure.getUsedCredit());
+    }
+
+    @Override
+    public void storeAll(Map<Long, CreditExposure> exposures) {
+        exposures.forEach(this::store);
+    }
+
+    @Override
+    public void delete(Long customerId) {
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> customerIds) {
+    }
+
+    private static CreditExposure toExposure(Customer customer) {
+        return new CreditExposure(customer.getCreditLimit(), customer.getUsedCreditLimit());
+    }
+}
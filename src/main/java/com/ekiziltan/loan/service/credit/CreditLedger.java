@@ -0,0 +1,21 @@
+package com.ekiziltan.loan.service.credit;
+
+import java.math.BigDecimal;
+
+/**
+ * Keeps a customer's used credit. Both operations are atomic on their own, so callers never read the
+ * customer, add in Java and write it back.
+ */
+public interface CreditLedger {
+
+    /**
+     * Adds {@code amount} to the customer's used credit if the result stays within the credit limit.
+     * Throws an {@code ApiException} when the customer does not exist or the limit would be exceeded.
+     */
+    void reserve(Long customerId, BigDecimal amount);
+
+    /**
+     * Subtracts {@code amount} from the customer's used credit, never going below zero.
+     */
+    void release(Long customerId, BigDecimal amount);
+}
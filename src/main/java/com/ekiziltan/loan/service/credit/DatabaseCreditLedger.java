@@ -0,0 +1,38 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import com.ekiziltan.loan.validations.LoanValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Ledger on the {@code customers} row itself: a reservation is one conditional UPDATE whose affected row
+ * count tells whether the limit held. The row is locked only for the rest of the caller's transaction.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.credit.ledger", havingValue = "database", matchIfMissing = true)
+public class DatabaseCreditLedger implements CreditLedger {
+
+    private final CustomerRepository customerRepository;
+
+    @Override
+    public void reserve(Long customerId, BigDecimal amount) {
+        int reserved = customerRepository.reserveCredit(customerId, amount);
+        if (reserved == 0 && !customerRepository.existsById(customerId)) {
+            throw new ApiException(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + customerId, HttpStatus.NOT_FOUND);
+        }
+        LoanValidator.checkCreditReserved(reserved > 0);
+    }
+
+    @Override
+    public void release(Long customerId, BigDecimal amount) {
+        customerRepository.releaseUsedCredit(customerId, amount);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import com.ekiziltan.loan.validations.LoanValidator;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+
+/**
+ * Ledger on a per-customer exposure map in the embedded Hazelcast member. Reservations and releases run
+ * as entry processors on the partition owning the customer, so the limit check is a local, atomic step
+ * and MySQL is only touched by the write-behind {@link CreditExposureMapStore}.
+ * <p>
+ * The map is not part of the database transaction: a reservation is given back if the surrounding
+ * transaction rolls back, and a release is only applied once it commits.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.credit.ledger", havingValue = "hazelcast")
+public class HazelcastCreditLedger implements CreditLedger {
+
+    public static final String CREDIT_EXPOSURE_MAP = "creditExposure";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    @Override
+    public void reserve(Long customerId, BigDecimal amount) {
+        Boolean reserved = exposures().executeOnKey(customerId, new ReserveCreditProcessor(amount));
+        if (reserved == null) {
+            throw new ApiException(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + customerId, HttpStatus.NOT_FOUND);
+        }
+        LoanValidator.checkCreditReserved(reserved);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        releaseNow(customerId, amount);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void release(Long customerId, BigDecimal amount) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseNow(customerId, amount);
+                }
+            });
+        } else {
+            releaseNow(customerId, amount);
+        }
+    }
+
+    private void releaseNow(Long customerId, BigDecimal amount) {
+        exposures().executeOnKey(customerId, new ReleaseCreditProcessor(amount));
+    }
+
+    private IMap<Long, CreditExposure> exposures() {
+        return hazelcastInstance.getMap(CREDIT_EXPOSURE_MAP);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.hazelcast.map.EntryProcessor;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Subtracts the amount from the customer's used credit on the partition owning the entry, never going
+ * below zero.
+ */
+@RequiredArgsConstructor
+public class ReleaseCreditProcessor implements EntryProcessor<Long, CreditExposure, Void> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final BigDecimal amount;
+
+    @Override
+    public Void process(Map.Entry<Long, CreditExposure> entry) {
+        CreditExposure exposure = entry.getValue();
+        if (exposure != null) {
+            entry.setValue(exposure.withUsedCredit(exposure.getUsedCredit().subtract(amount).max(BigDecimal.ZERO)));
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.ekiziltan.loan.validations.LoanValidator;
+import com.hazelcast.map.EntryProcessor;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Adds the amount to the customer's used credit on the partition owning the entry, if the limit holds.
+ * Returns {@code null} when there is no such customer, otherwise whether the credit was reserved.
+ */
+@RequiredArgsConstructor
+public class ReserveCreditProcessor implements EntryProcessor<Long, CreditExposure, Boolean> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final BigDecimal amount;
+
+    @Override
+    public Boolean process(Map.Entry<Long, CreditExposure> entry) {
+        CreditExposure exposure = entry.getValue();
+        if (exposure == null) {
+            return null;
+        }
+        BigDecimal newUsed = exposure.getUsedCredit().add(amount);
+        if (!LoanValidator.isWithinLimit(newUsed, exposure.getCreditLimit())) {
+            return false;
+        }
+        entry.setValue(exposure.withUsedCredit(newUsed));
+        return true;
+    }
+}
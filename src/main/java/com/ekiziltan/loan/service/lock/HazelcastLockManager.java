@@ -0,0 +1,100 @@
+package com.ekiziltan.loan.service.lock;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import com.hazelcast.map.IMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster wide lock manager backed by an {@link IMap} of the application's Hazelcast instance.
+ * Every transition is a single atomic map operation executed on the key's partition owner, so holds are
+ * visible to all nodes and are not bound to the acquiring thread the way {@code IMap.lock} is.
+ * Entries carry a TTL of {@code app.lock.lease-ms}, so holds of a crashed node expire on their own.
+ */
+@Component
+@ConditionalOnProperty(name = "app.lock.manager", havingValue = "hazelcast", matchIfMissing = true)
+public class HazelcastLockManager implements LockManager {
+
+    public static final String LOCK_MAP_NAME = "lockRegistry";
+
+    private static final int EXCLUSIVE = -1;
+
+    private final IMap<String, Integer> locks;
+    private final long leaseMs;
+
+    public HazelcastLockManager(HazelcastInstance hazelcastInstance,
+                                @Value("${app.lock.lease-ms:60000}") long leaseMs) {
+        this.locks = hazelcastInstance.getMap(LOCK_MAP_NAME);
+        this.leaseMs = leaseMs;
+    }
+
+    @Override
+    public boolean tryLock(String key) {
+        return locks.putIfAbsent(key, EXCLUSIVE, leaseMs, TimeUnit.MILLISECONDS) == null;
+    }
+
+    @Override
+    public boolean tryLockShared(String key) {
+        return locks.executeOnKey(key, new SharedLockProcessor(leaseMs));
+    }
+
+    @Override
+    public void unlock(String key) {
+        locks.executeOnKey(key, new UnlockProcessor(leaseMs));
+    }
+
+    @Override
+    public boolean isLocked(String key) {
+        return locks.containsKey(key);
+    }
+
+    static class SharedLockProcessor implements EntryProcessor<String, Integer, Boolean> {
+
+        private final long leaseMs;
+
+        SharedLockProcessor(long leaseMs) {
+            this.leaseMs = leaseMs;
+        }
+
+        @Override
+        public Boolean process(Map.Entry<String, Integer> entry) {
+            Integer current = entry.getValue();
+            if (current != null && current == EXCLUSIVE) {
+                return false;
+            }
+            // every new shared hold renews the lease of the whole key
+            ((ExtendedMapEntry<String, Integer>) entry)
+                    .setValue(current == null ? 1 : current + 1, leaseMs, TimeUnit.MILLISECONDS);
+            return true;
+        }
+    }
+
+    static class UnlockProcessor implements EntryProcessor<String, Integer, Boolean> {
+
+        private final long leaseMs;
+
+        UnlockProcessor(long leaseMs) {
+            this.leaseMs = leaseMs;
+        }
+
+        @Override
+        public Boolean process(Map.Entry<String, Integer> entry) {
+            Integer current = entry.getValue();
+            if (current == null) {
+                return false;
+            }
+            if (current == EXCLUSIVE || current == 1) {
+                entry.setValue(null);
+            } else {
+                ((ExtendedMapEntry<String, Integer>) entry).setValue(current - 1, leaseMs, TimeUnit.MILLISECONDS);
+            }
+            return true;
+        }
+    }
+}
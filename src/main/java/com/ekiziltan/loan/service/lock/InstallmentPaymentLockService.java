@@ -6,59 +6,101 @@ import com.ekiziltan.loan.handlers.exceptions.ApiException;
 import com.ekiziltan.loan.repository.lock.InstallmentPaymentLockRepository;
 import com.ekiziltan.loan.utils.SecurityHelper;
 import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
+/**
+ * Mutual exclusion for installment payments. A payment holds its loan exclusively and its payer shared,
+ * so one customer can pay different loans concurrently while loan creation can still see that a payment
+ * is in flight. Optimistic payments only take the payer's shared hold, which keeps loan creation out without
+ * serializing payments of the same loan. installment_payment_lock rows are only written when
+ * {@code app.lock.audit-enabled} is set.
+ */
 @RequiredArgsConstructor
 @Service
 public class InstallmentPaymentLockService {
 
+    private static final String LOAN_KEY_PREFIX = "installment-payment:loan:";
+    private static final String CUSTOMER_KEY_PREFIX = "installment-payment:customer:";
+
     private final InstallmentPaymentLockRepository installmentPaymentLockRepository;
     private final SecurityHelper securityHelper;
+    private final LockManager lockManager;
+
+    @Value("${app.lock.audit-enabled:false}")
+    private boolean auditEnabled;
 
-    @Transactional
     public void createLock(Long loanId) {
-        installmentPaymentLockRepository.findByLoanIdAndStatus(loanId, LockStatus.IN_PROGRESS)
-                .ifPresent(lock -> {
-                    throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_INSTALLMENT_PAYMENT, HttpStatus.CONFLICT);
-                });
-
-        InstallmentPaymentLock newLock = new InstallmentPaymentLock();
-        newLock.setLoanId(loanId);
-        newLock.setStatus(LockStatus.IN_PROGRESS);
-        newLock.setCustomerId(securityHelper.getCustomerIdFromSecurityContext());
-        newLock.setCreatedDate(LocalDateTime.now());
-        installmentPaymentLockRepository.save(newLock);
+        Long customerId = securityHelper.getCustomerIdFromSecurityContext();
+        String loanKey = loanKey(loanId);
+        String customerKey = customerKey(customerId);
+
+        if (!lockManager.tryLock(loanKey)) {
+            throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_INSTALLMENT_PAYMENT, HttpStatus.CONFLICT);
+        }
+        if (!lockManager.tryLockShared(customerKey)) {
+            lockManager.unlock(loanKey);
+            throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_INSTALLMENT_PAYMENT, HttpStatus.CONFLICT);
+        }
+        TransactionalLockRelease.bindToTransaction(lockManager, loanKey, customerKey);
+
+        if (auditEnabled) {
+            InstallmentPaymentLock newLock = new InstallmentPaymentLock();
+            newLock.setLoanId(loanId);
+            newLock.setStatus(LockStatus.IN_PROGRESS);
+            newLock.setCustomerId(customerId);
+            newLock.setCreatedDate(LocalDateTime.now());
+            installmentPaymentLockRepository.save(newLock);
+        }
+    }
+
+    // the payer side of createLock only; the caller releases it with releasePayer once every attempt is over
+    public void holdPayer() {
+        if (!lockManager.tryLockShared(customerKey(securityHelper.getCustomerIdFromSecurityContext()))) {
+            throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_INSTALLMENT_PAYMENT, HttpStatus.CONFLICT);
+        }
+    }
+
+    public void releasePayer() {
+        lockManager.unlock(customerKey(securityHelper.getCustomerIdFromSecurityContext()));
     }
 
     public void checkLockExists(Long customerId) {
-        installmentPaymentLockRepository.findByCustomerIdAndStatus(customerId, LockStatus.IN_PROGRESS)
-                .ifPresent(lock -> {
-                    throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOCK_EXISTS, HttpStatus.CONFLICT);
-                });
+        if (lockManager.isLocked(customerKey(customerId))) {
+            throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOCK_EXISTS, HttpStatus.CONFLICT);
+        }
     }
 
-    @Transactional
     public void markLockAsDone(Long loanId) {
-        InstallmentPaymentLock lock = installmentPaymentLockRepository.findByLoanIdAndStatus(loanId, LockStatus.IN_PROGRESS)
-                .orElseThrow(() -> new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOCK_NOT_FOUND, HttpStatus.NOT_FOUND));
-
-        lock.setStatus(LockStatus.DONE);
-        lock.setUpdatedDate(LocalDateTime.now());
-        installmentPaymentLockRepository.save(lock);
+        finish(loanId, LockStatus.DONE);
     }
 
-    @Transactional
     public void markLockAsFailed(Long loanId) {
-        installmentPaymentLockRepository.findByLoanIdAndStatus(loanId, LockStatus.IN_PROGRESS)
-                .ifPresent(lock -> {
-                    lock.setStatus(LockStatus.FAILED);
-                    lock.setUpdatedDate(LocalDateTime.now());
-                    installmentPaymentLockRepository.save(lock);
-                });
+        finish(loanId, LockStatus.FAILED);
+    }
+
+    private void finish(Long loanId, LockStatus status) {
+        if (auditEnabled) {
+            installmentPaymentLockRepository.findByLoanIdAndStatus(loanId, LockStatus.IN_PROGRESS)
+                    .ifPresent(lock -> {
+                        lock.setStatus(status);
+                        lock.setUpdatedDate(LocalDateTime.now());
+                        installmentPaymentLockRepository.save(lock);
+                    });
+        }
+        TransactionalLockRelease.releaseIfUnbound(lockManager, loanKey(loanId),
+                customerKey(securityHelper.getCustomerIdFromSecurityContext()));
+    }
+
+    private static String loanKey(Long loanId) {
+        return LOAN_KEY_PREFIX + loanId;
+    }
+
+    private static String customerKey(Long customerId) {
+        return CUSTOMER_KEY_PREFIX + customerId;
     }
 }
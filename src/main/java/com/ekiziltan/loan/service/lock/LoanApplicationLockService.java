@@ -6,59 +6,72 @@ import com.ekiziltan.loan.entity.LockStatus;
 import com.ekiziltan.loan.handlers.exceptions.ApiException;
 import com.ekiziltan.loan.repository.lock.LoanApplicationLockRepository;
 import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
-import jakarta.transaction.Transactional;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
-@AllArgsConstructor
+/**
+ * Mutual exclusion for loan applications of a customer. Exclusion comes from the {@link LockManager};
+ * loan_application_lock rows are only written when {@code app.lock.audit-enabled} is set.
+ */
+@RequiredArgsConstructor
 @Service
 public class LoanApplicationLockService {
 
+    private static final String KEY_PREFIX = "loan-application:customer:";
+
     private final LoanApplicationLockRepository lockRepository;
+    private final LockManager lockManager;
+
+    @Value("${app.lock.audit-enabled:false}")
+    private boolean auditEnabled;
 
-    @Transactional
     public void createLock(Long customerId) {
-        lockRepository.findByCustomerIdAndStatus(customerId, LockStatus.IN_PROGRESS)
-                .ifPresent(lock -> {
-                    throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOAN_APPLICATION, HttpStatus.CONFLICT);
-                });
+        String key = key(customerId);
+        if (!lockManager.tryLock(key)) {
+            throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOAN_APPLICATION, HttpStatus.CONFLICT);
+        }
+        TransactionalLockRelease.bindToTransaction(lockManager, key);
 
-        LoanApplicationLock newLock = new LoanApplicationLock();
-        newLock.setCustomerId(customerId);
-        newLock.setStatus(LockStatus.IN_PROGRESS);
-        newLock.setCreatedDate(LocalDateTime.now());
-        lockRepository.save(newLock);
+        if (auditEnabled) {
+            LoanApplicationLock newLock = new LoanApplicationLock();
+            newLock.setCustomerId(customerId);
+            newLock.setStatus(LockStatus.IN_PROGRESS);
+            newLock.setCreatedDate(LocalDateTime.now());
+            lockRepository.save(newLock);
+        }
     }
 
     public void checkLockExists(Long customerId) {
-        lockRepository.findByCustomerIdAndStatus(customerId, LockStatus.IN_PROGRESS)
-                .ifPresent(lock -> {
-                    throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOCK_EXISTS, HttpStatus.CONFLICT);
-                });
+        if (lockManager.isLocked(key(customerId))) {
+            throw new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOCK_EXISTS, HttpStatus.CONFLICT);
+        }
     }
 
-    @Transactional
     public void markLockAsDone(Long customerId) {
-        LoanApplicationLock lock = lockRepository.findByCustomerIdAndStatus(customerId, LockStatus.IN_PROGRESS)
-                .orElseThrow(() -> new ApiException(LoanServiceConstants.ERROR_ACTIVE_LOCK_NOT_FOUND, HttpStatus.NOT_FOUND));
-
-        lock.setStatus(LockStatus.DONE);
-        lock.setUpdatedDate(LocalDateTime.now());
-        lockRepository.save(lock);
+        finish(customerId, LockStatus.DONE);
     }
 
-    @Transactional
     public void markLockAsFailed(Long customerId) {
-        lockRepository.findByCustomerIdAndStatus(customerId, LockStatus.IN_PROGRESS)
-                .ifPresent(lock -> {
-                    lock.setStatus(LockStatus.FAILED);
-                    lock.setUpdatedDate(LocalDateTime.now());
-                    lockRepository.save(lock);
-                });
+        finish(customerId, LockStatus.FAILED);
     }
-}
 
+    private void finish(Long customerId, LockStatus status) {
+        if (auditEnabled) {
+            lockRepository.findByCustomerIdAndStatus(customerId, LockStatus.IN_PROGRESS)
+                    .ifPresent(lock -> {
+                        lock.setStatus(status);
+                        lock.setUpdatedDate(LocalDateTime.now());
+                        lockRepository.save(lock);
+                    });
+        }
+        TransactionalLockRelease.releaseIfUnbound(lockManager, key(customerId));
+    }
 
+    private static String key(Long customerId) {
+        return KEY_PREFIX + customerId;
+    }
+}
@@ -0,0 +1,124 @@
+package com.ekiziltan.loan.service.lock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process lock manager for single node deployments. Key state lives in per-stripe maps guarded by
+ * striped {@link ReentrantLock}s, so unrelated keys rarely contend and holds are not tied to a thread.
+ * Every hold is a lease: once it is older than {@code app.lock.lease-ms} the key counts as free again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.lock.manager", havingValue = "local")
+public class LocalStripedLockManager implements LockManager {
+
+    private static final int EXCLUSIVE = -1;
+
+    private final ReentrantLock[] stripes;
+    private final Map<String, Hold>[] holds;
+    private final long leaseMs;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LocalStripedLockManager(@Value("${app.lock.stripes:64}") int stripeCount,
+                                   @Value("${app.lock.lease-ms:60000}") long leaseMs) {
+        this(stripeCount, leaseMs, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    LocalStripedLockManager(int stripeCount, long leaseMs, LongSupplier clock) {
+        this.stripes = new ReentrantLock[stripeCount];
+        this.holds = new Map[stripeCount];
+        this.leaseMs = leaseMs;
+        this.clock = clock;
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+            holds[i] = new HashMap<>();
+        }
+    }
+
+    @Override
+    public boolean tryLock(String key) {
+        int stripe = stripeOf(key);
+        stripes[stripe].lock();
+        try {
+            if (current(stripe, key) != null) {
+                return false;
+            }
+            holds[stripe].put(key, new Hold(EXCLUSIVE, clock.getAsLong() + leaseMs));
+            return true;
+        } finally {
+            stripes[stripe].unlock();
+        }
+    }
+
+    @Override
+    public boolean tryLockShared(String key) {
+        int stripe = stripeOf(key);
+        stripes[stripe].lock();
+        try {
+            Hold current = current(stripe, key);
+            if (current != null && current.count() == EXCLUSIVE) {
+                return false;
+            }
+            holds[stripe].put(key, new Hold(current == null ? 1 : current.count() + 1, clock.getAsLong() + leaseMs));
+            return true;
+        } finally {
+            stripes[stripe].unlock();
+        }
+    }
+
+    @Override
+    public void unlock(String key) {
+        int stripe = stripeOf(key);
+        stripes[stripe].lock();
+        try {
+            Hold current = current(stripe, key);
+            if (current == null) {
+                return;
+            }
+            if (current.count() == EXCLUSIVE || current.count() == 1) {
+                holds[stripe].remove(key);
+            } else {
+                holds[stripe].put(key, new Hold(current.count() - 1, current.expiresAt()));
+            }
+        } finally {
+            stripes[stripe].unlock();
+        }
+    }
+
+    @Override
+    public boolean isLocked(String key) {
+        int stripe = stripeOf(key);
+        stripes[stripe].lock();
+        try {
+            return current(stripe, key) != null;
+        } finally {
+            stripes[stripe].unlock();
+        }
+    }
+
+    // caller must hold the stripe lock; drops the hold if its lease has run out
+    private Hold current(int stripe, String key) {
+        Hold hold = holds[stripe].get(key);
+        if (hold != null && hold.expiresAt() <= clock.getAsLong()) {
+            holds[stripe].remove(key);
+            return null;
+        }
+        return hold;
+    }
+
+    private int stripeOf(String key) {
+        return Math.floorMod(key.hashCode(), stripes.length);
+    }
+
+    private record Hold(int count, long expiresAt) {
+    }
+}
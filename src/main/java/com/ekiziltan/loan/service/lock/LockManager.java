@@ -0,0 +1,25 @@
+package com.ekiziltan.loan.service.lock;
+
+/**
+ * Non-blocking, key based mutual exclusion used by the application and payment lock services.
+ * A key is held either exclusively by one caller or shared by any number of callers.
+ */
+public interface LockManager {
+
+    /**
+     * @return true if the key was free and is now held exclusively, false if it is already held.
+     */
+    boolean tryLock(String key);
+
+    /**
+     * @return true if the key is now held shared, false if it is held exclusively.
+     */
+    boolean tryLockShared(String key);
+
+    /**
+     * Releases an exclusive hold or one shared hold of the key.
+     */
+    void unlock(String key);
+
+    boolean isLocked(String key);
+}
@@ -0,0 +1,107 @@
+package com.ekiziltan.loan.service.lock;
+
+import com.ekiziltan.loan.entity.LockStatus;
+import com.ekiziltan.loan.repository.lock.InstallmentPaymentLockRepository;
+import com.ekiziltan.loan.repository.lock.LoanApplicationLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Housekeeping for the lock tables. Rows left IN_PROGRESS longer than the lock lease (e.g. by a node that
+ * died mid request) are expired to FAILED in one bulk update, and DONE/FAILED rows older than the
+ * retention period are purged in id batches. Both scans use the (status, created_date) index.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.lock.reaper.enabled", havingValue = "true", matchIfMissing = true)
+public class LockReaper {
+
+    private static final List<LockStatus> FINISHED_STATUSES = List.of(LockStatus.DONE, LockStatus.FAILED);
+
+    private final LoanApplicationLockRepository loanApplicationLockRepository;
+    private final InstallmentPaymentLockRepository installmentPaymentLockRepository;
+    private final long staleAfterMs;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Supplier<LocalDateTime> clock;
+
+    @Autowired
+    public LockReaper(LoanApplicationLockRepository loanApplicationLockRepository,
+                      InstallmentPaymentLockRepository installmentPaymentLockRepository,
+                      @Value("${app.lock.reaper.stale-after-ms:${app.lock.lease-ms:60000}}") long staleAfterMs,
+                      @Value("${app.lock.reaper.retention-days:7}") int retentionDays,
+                      @Value("${app.lock.reaper.batch-size:1000}") int batchSize,
+                      @Value("${app.lock.reaper.max-batches-per-run:50}") int maxBatchesPerRun) {
+        this(loanApplicationLockRepository, installmentPaymentLockRepository, staleAfterMs, retentionDays, batchSize,
+                maxBatchesPerRun, LocalDateTime::now);
+    }
+
+    LockReaper(LoanApplicationLockRepository loanApplicationLockRepository,
+               InstallmentPaymentLockRepository installmentPaymentLockRepository,
+               long staleAfterMs, int retentionDays, int batchSize, int maxBatchesPerRun,
+               Supplier<LocalDateTime> clock) {
+        this.loanApplicationLockRepository = loanApplicationLockRepository;
+        this.installmentPaymentLockRepository = installmentPaymentLockRepository;
+        this.staleAfterMs = staleAfterMs;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.lock.reaper.interval-ms:60000}")
+    public void reap() {
+        LocalDateTime now = clock.get();
+
+        int expired = expireStaleLocks(now);
+        int purged = purgeFinishedLocks(now);
+
+        if (expired > 0 || purged > 0) {
+            log.info("Lock reaper expired {} stale and purged {} finished lock rows", expired, purged);
+        }
+    }
+
+    int expireStaleLocks(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(staleAfterMs, ChronoUnit.MILLIS);
+        return loanApplicationLockRepository.updateStatusCreatedBefore(LockStatus.IN_PROGRESS, LockStatus.FAILED, cutoff, now)
+                + installmentPaymentLockRepository.updateStatusCreatedBefore(LockStatus.IN_PROGRESS, LockStatus.FAILED, cutoff, now);
+    }
+
+    int purgeFinishedLocks(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+        return purge(page -> loanApplicationLockRepository.findIdsByStatusInCreatedBefore(FINISHED_STATUSES, cutoff, page),
+                loanApplicationLockRepository::deleteAllByIdInBatch)
+                + purge(page -> installmentPaymentLockRepository.findIdsByStatusInCreatedBefore(FINISHED_STATUSES, cutoff, page),
+                installmentPaymentLockRepository::deleteAllByIdInBatch);
+    }
+
+    private int purge(Function<Pageable, List<Long>> idFinder, Consumer<List<Long>> deleter) {
+        int purged = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> ids = idFinder.apply(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleter.accept(ids);
+            purged += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ekiziltan.loan.service.lock;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ties lock holds to the caller's transaction: keys taken inside a transaction are released after it
+ * commits or rolls back, so no other request can see the lock free before the guarded writes are visible.
+ * Without a transaction the holder releases the keys itself when marking the lock done or failed.
+ */
+final class TransactionalLockRelease {
+
+    private TransactionalLockRelease() {
+    }
+
+    static void bindToTransaction(LockManager lockManager, String... keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlockAll(lockManager, keys);
+            }
+        });
+    }
+
+    static void releaseIfUnbound(LockManager lockManager, String... keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlockAll(lockManager, keys);
+        }
+    }
+
+    private static void unlockAll(LockManager lockManager, String... keys) {
+        for (String key : keys) {
+            lockManager.unlock(key);
+        }
+    }
+}
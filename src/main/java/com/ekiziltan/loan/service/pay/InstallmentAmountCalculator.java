@@ -5,34 +5,70 @@ import com.ekiziltan.loan.entity.LoanInstallment;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
 
+/**
+ * Early payment discount and late payment penalty: 0.1% of the installment amount per day before or after
+ * the due date. With the amount in cents, {@code amount * 0.001 * days} is exactly {@code cents * days} units
+ * of 10^-5, so the final amount is {@code cents * (1000 + now - due)} at scale 5, for early and late alike.
+ * The batch methods compute that over primitive arrays, with no per-row objects and no branches.
+ */
 @Component
 public class InstallmentAmountCalculator {
 
+    public static final int AMOUNT_SCALE = 5;
+    private static final long UNITS_PER_CENT = 1000;
+
     public BigDecimal calculateFinalAmount(LoanInstallment inst, LocalDate now) {
-        if (now.isBefore(inst.getDueDate())) {
-            return applyDiscount(inst, now);
-        } else if (now.isAfter(inst.getDueDate())) {
-            return applyPenalty(inst, now);
+        if (now.isEqual(inst.getDueDate())) {
+            return inst.getAmount();
+        }
+        return toAmount(finalAmount(toCents(inst.getAmount()), inst.getDueDate().toEpochDay(), now.toEpochDay()));
+    }
+
+    // final amounts at AMOUNT_SCALE, in the order of the given installments; shared by the payment (entities)
+    // and the preview (cached DTOs), which pass the accessors of their amount and due date
+    public <T> long[] calculateFinalAmounts(List<T> installments, Function<T, BigDecimal> amount,
+                                            Function<T, LocalDate> dueDate, LocalDate now) {
+        int size = installments.size();
+        long[] amountCents = new long[size];
+        long[] dueEpochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            T installment = installments.get(i);
+            amountCents[i] = toCents(amount.apply(installment));
+            dueEpochDays[i] = dueDate.apply(installment).toEpochDay();
         }
-        return inst.getAmount();
+        long[] finalAmounts = new long[size];
+        calculateFinalAmounts(amountCents, dueEpochDays, now.toEpochDay(), finalAmounts);
+        return finalAmounts;
+    }
+
+    private static void calculateFinalAmounts(long[] amountCents, long[] dueEpochDays, long nowEpochDay, long[] finalAmounts) {
+        for (int i = 0; i < amountCents.length; i++) {
+            finalAmounts[i] = finalAmount(amountCents[i], dueEpochDays[i], nowEpochDay);
+        }
+    }
+
+    // drops the scale back to cents when nothing was adjusted below a cent
+    public static BigDecimal toAmount(long units) {
+        return units % UNITS_PER_CENT == 0
+                ? BigDecimal.valueOf(units / UNITS_PER_CENT, 2)
+                : BigDecimal.valueOf(units, AMOUNT_SCALE);
+    }
+
+    // rounded down, so units >= finalAmount exactly when the original amount covers it
+    public static long toUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.DOWN).unscaledValue().longValueExact();
     }
 
-    private BigDecimal applyDiscount(LoanInstallment inst, LocalDate now) {
-        long daysEarly = ChronoUnit.DAYS.between(now, inst.getDueDate());
-        BigDecimal discount = inst.getAmount()
-                .multiply(BigDecimal.valueOf(0.001))
-                .multiply(BigDecimal.valueOf(daysEarly));
-        return inst.getAmount().subtract(discount);
+    private static long finalAmount(long amountCents, long dueEpochDay, long nowEpochDay) {
+        return amountCents * (UNITS_PER_CENT + nowEpochDay - dueEpochDay);
     }
 
-    private BigDecimal applyPenalty(LoanInstallment inst, LocalDate now) {
-        long daysLate = ChronoUnit.DAYS.between(inst.getDueDate(), now);
-        BigDecimal penalty = inst.getAmount()
-                .multiply(BigDecimal.valueOf(0.001))
-                .multiply(BigDecimal.valueOf(daysLate));
-        return inst.getAmount().add(penalty);
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
     }
 }
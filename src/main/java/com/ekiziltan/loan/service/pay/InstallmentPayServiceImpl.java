@@ -9,141 +9,190 @@ import com.ekiziltan.loan.entity.Loan;
 import com.ekiziltan.loan.entity.LoanApplicationLock;
 import com.ekiziltan.loan.entity.LoanInstallment;
 import com.ekiziltan.loan.handlers.exceptions.ApiException;
-import com.ekiziltan.loan.repository.CustomerRepository;
 import com.ekiziltan.loan.repository.LoanInstallmentRepository;
 import com.ekiziltan.loan.repository.LoanRepository;
+import com.ekiziltan.loan.service.cache.InstallmentScheduleCache;
+import com.ekiziltan.loan.service.cache.LoanCacheEvictor;
+import com.ekiziltan.loan.service.credit.CreditLedger;
 import com.ekiziltan.loan.service.lock.InstallmentPaymentLockService;
 import com.ekiziltan.loan.service.lock.LoanApplicationLockService;
 import com.ekiziltan.loan.utils.SecurityHelper;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class InstallmentPayServiceImpl implements InstallmentPayService {
 
 
-    private static final String ERROR_LOAN_NOT_FOUND = "Loan not found.";
 
     private final LoanRepository loanRepository;
     private final LoanInstallmentRepository installmentRepository;
-    private final CustomerRepository customerRepository; // for updating usedCreditLimit
+    private final CreditLedger creditLedger; // for updating usedCreditLimit
     private final InstallmentPaymentLockService installmentPaymentLockService;
     private final LoanApplicationLockService loanApplicationLockService;
     private final InstallmentAmountCalculator amountCalculator;
     private final InstallmentProcessor installmentProcessor;
     private final SecurityHelper securityHelper;
+    private final LoanCacheEvictor loanCacheEvictor;
+    private final InstallmentScheduleCache installmentScheduleCache;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.payment.concurrency:pessimistic}")
+    private PaymentConcurrencyMode concurrencyMode = PaymentConcurrencyMode.PESSIMISTIC;
+
+    @Value("${app.payment.optimistic.max-attempts:3}")
+    private int maxOptimisticAttempts = 3;
 
     @Override
-    @Transactional
     @PreAuthorize("hasRole('ADMIN') or @loanOwnerSecurityService.isLoanOwner(#request.loanId, principal.customerId)")
-    @CacheEvict(value = {"loansCache", "installmentsCache"}, allEntries = true)
     public PayInstallmentResponse execute(PayInstallmentRequest request) {
 
 
         Long customerId = securityHelper.getCustomerIdFromSecurityContext();
         loanApplicationLockService.checkLockExists(customerId);
 
+        if (concurrencyMode == PaymentConcurrencyMode.OPTIMISTIC) {
+            return payOptimistically(request);
+        }
+        return transactionTemplate.execute(status -> payPessimistically(request));
+    }
+
+    private PayInstallmentResponse payPessimistically(PayInstallmentRequest request) {
         installmentPaymentLockService.createLock(request.getLoanId());
 
         try {
             Loan loan = fetchLoanWithLock(request.getLoanId());
-
-            List<LoanInstallment> installments = fetchPendingInstallments(loan.getId());
-
-            PaymentResult paymentResult = processPayments(installments, request.getPayAmount());
-
-            updateCustomerUsedCredit(loan, paymentResult.getTotalPrincipalPaid());
-
-            updateLoanStatusIfNecessary(loan, installments);
-
+            PayInstallmentResponse response = pay(loan, request.getPayAmount());
             installmentPaymentLockService.markLockAsDone(request.getLoanId());
-
-            return buildResponse(paymentResult, installments);
+            return response;
         } catch (ApiException e) {
             installmentPaymentLockService.markLockAsFailed(request.getLoanId());
             throw e;
         }
     }
 
-
-
-    private Loan fetchLoanWithLock(Long loanId) {
-        return loanRepository.findByIdWithLock(loanId)
-                .orElseThrow(() -> new ApiException(ERROR_LOAN_NOT_FOUND, HttpStatus.NOT_FOUND));
+    // no loan lock and no row lock: a payment that lost the race on the loan's version is retried from a fresh
+    // read. The payer's shared hold spans all attempts, so loan creation still sees the payment in flight
+    private PayInstallmentResponse payOptimistically(PayInstallmentRequest request) {
+        installmentPaymentLockService.holdPayer();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status ->
+                            pay(fetchLoanForOptimisticUpdate(request.getLoanId()), request.getPayAmount()));
+                } catch (OptimisticLockingFailureException e) {
+                    if (attempt >= maxOptimisticAttempts) {
+                        log.warn("Payment of loan {} gave up after {} optimistic conflicts", request.getLoanId(), attempt);
+                        throw new ApiException(LoanServiceConstants.ERROR_PAYMENT_CONFLICT, HttpStatus.CONFLICT);
+                    }
+                }
+            }
+        } finally {
+            installmentPaymentLockService.releasePayer();
+        }
     }
 
-    private List<LoanInstallment> fetchPendingInstallments(Long loanId) {
-        return installmentRepository.findByLoan_IdOrderByDueDateAsc(loanId);
-    }
+    private PayInstallmentResponse pay(Loan loan, BigDecimal payAmount) {
+        LocalDate now = LocalDate.now(ZoneId.of("UTC"));
+        long unpaidCount = installmentRepository.countByLoan_IdAndIsPaidFalse(loan.getId());
+        List<LoanInstallment> installments = fetchPendingInstallments(loan.getId(), now);
 
-    private PaymentResult processPayments(List<LoanInstallment> installments, BigDecimal payAmount) {
-        BigDecimal amountLeft = payAmount;
-        int paidCount = 0;
-        BigDecimal totalSpent = BigDecimal.ZERO;
-        BigDecimal totalPrincipalPaid = BigDecimal.ZERO;
+        PaymentResult paymentResult = processPayments(installments, payAmount, now);
 
-        LocalDate now = LocalDate.now(ZoneId.of("UTC"));
+        releaseCustomerCredit(loan, paymentResult.getTotalPrincipalPaid());
 
-        for (LoanInstallment installment : installments) {
-            if (installmentProcessor.isAlreadyPaid(installment)) {
-                continue;
-            }
+        boolean allPaid = paymentResult.getPaidCount() == unpaidCount;
+        updateLoanStatusIfNecessary(loan, allPaid);
 
-            if (!installmentProcessor.isWithinPaymentWindow(installment, now)) {
-                break;
-            }
+        updateCachedSchedule(loan.getId(), paymentResult);
+        loanCacheEvictor.evictCustomer(loan.getCustomer().getId());
 
-            BigDecimal finalAmount = amountCalculator.calculateFinalAmount(installment, now);
+        return buildResponse(paymentResult, allPaid);
+    }
+
+    private Loan fetchLoanWithLock(Long loanId) {
+        return loanRepository.findByIdWithLock(loanId)
+                .orElseThrow(() -> new ApiException(LoanServiceConstants.ERROR_LOAN_NOT_FOUND, HttpStatus.NOT_FOUND));
+    }
 
-            if (installmentProcessor.canPayInstallment(amountLeft, finalAmount)) {
+    private Loan fetchLoanForOptimisticUpdate(Long loanId) {
+        return loanRepository.findByIdForOptimisticUpdate(loanId)
+                .orElseThrow(() -> new ApiException(LoanServiceConstants.ERROR_LOAN_NOT_FOUND, HttpStatus.NOT_FOUND));
+    }
 
-                installmentProcessor.payInstallment(installment, finalAmount, now);
-                paidCount++;
-                totalSpent = totalSpent.add(finalAmount);
+    // unpaid installments due within the payment window, oldest first
+    private List<LoanInstallment> fetchPendingInstallments(Long loanId, LocalDate now) {
+        return installmentRepository.findPayableInstallments(loanId, installmentProcessor.paymentWindowLimit(now));
+    }
 
-                totalPrincipalPaid = totalPrincipalPaid.add(installment.getPrincipalPortion());
+    private PaymentResult processPayments(List<LoanInstallment> installments, BigDecimal payAmount, LocalDate now) {
+        long[] finalAmounts = amountCalculator.calculateFinalAmounts(installments,
+                LoanInstallment::getAmount, LoanInstallment::getDueDate, now);
+        int paidCount = installmentProcessor.coveredCount(finalAmounts, InstallmentAmountCalculator.toUnits(payAmount));
+        long totalSpent = 0;
+        BigDecimal totalPrincipalPaid = BigDecimal.ZERO;
 
-                amountLeft = amountLeft.subtract(finalAmount);
-            } else {
-                break;
-            }
+        for (int i = 0; i < paidCount; i++) {
+            LoanInstallment installment = installments.get(i);
+            installmentProcessor.payInstallment(installment, InstallmentAmountCalculator.toAmount(finalAmounts[i]), now);
+            totalSpent += finalAmounts[i];
+            totalPrincipalPaid = totalPrincipalPaid.add(installment.getPrincipalPortion());
         }
 
-        return new PaymentResult(paidCount, totalSpent, totalPrincipalPaid, installments);
+        return new PaymentResult(paidCount, InstallmentAmountCalculator.toAmount(totalSpent), totalPrincipalPaid, installments);
     }
 
 
-    private void updateCustomerUsedCredit(Loan loan, BigDecimal totalPrincipalPaid) {
+    // getId() on the lazy customer proxy does not load the customer row
+    private void releaseCustomerCredit(Loan loan, BigDecimal totalPrincipalPaid) {
         Customer customer = loan.getCustomer();
         if (customer != null && totalPrincipalPaid.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal newUsedCredit = customer.getUsedCreditLimit().subtract(totalPrincipalPaid);
-            customer.setUsedCreditLimit(newUsedCredit.max(BigDecimal.ZERO));
-            customerRepository.save(customer);
+            creditLedger.release(customer.getId(), totalPrincipalPaid);
         }
     }
 
-    private void updateLoanStatusIfNecessary(Loan loan, List<LoanInstallment> installments) {
-        boolean allPaid = installments.stream().allMatch(LoanInstallment::getIsPaid);
+    // the loan is managed (loaded FOR UPDATE), so the flag is flushed with the installment batch
+    private void updateLoanStatusIfNecessary(Loan loan, boolean allPaid) {
         if (allPaid && !loan.getIsPaid()) {
             loan.setIsPaid(true);
-            loanRepository.save(loan);
         }
     }
 
-    private PayInstallmentResponse buildResponse(PaymentResult result, List<LoanInstallment> installments) {
-        boolean allPaid = installments.stream().allMatch(LoanInstallment::getIsPaid);
+    // only a payment holding the loan exclusively may patch the cached schedule; optimistic payments of one loan
+    // commit one after the other but their after-commit patches could interleave, so they evict it instead
+    private void updateCachedSchedule(Long loanId, PaymentResult paymentResult) {
+        if (concurrencyMode == PaymentConcurrencyMode.OPTIMISTIC) {
+            if (paymentResult.getPaidCount() > 0) {
+                installmentScheduleCache.evict(loanId);
+            }
+            return;
+        }
+        installmentScheduleCache.applyPayments(loanId, paidInstallments(paymentResult));
+    }
+
+    // installments are paid strictly in due date order, so the paid ones are a prefix of the list
+    private static List<LoanInstallment> paidInstallments(PaymentResult result) {
+        return result.getInstallments().subList(0, result.getPaidCount());
+    }
+
+    private PayInstallmentResponse buildResponse(PaymentResult result, boolean allPaid) {
         return PayInstallmentResponse.builder()
                 .paidInstalments(result.getPaidCount())
                 .totalSpent(result.getTotalSpent())
@@ -2,36 +2,38 @@ package com.ekiziltan.loan.service.pay;
 
 
 import com.ekiziltan.loan.entity.LoanInstallment;
-import com.ekiziltan.loan.repository.LoanInstallmentRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Component
-@RequiredArgsConstructor
 public class InstallmentProcessor {
 
-    private final LoanInstallmentRepository installmentRepository;
-
-    public boolean isAlreadyPaid(LoanInstallment installment) {
-        return Boolean.TRUE.equals(installment.getIsPaid());
+    // installments due after this date cannot be paid yet
+    public LocalDate paymentWindowLimit(LocalDate now) {
+        return now.plusMonths(3).withDayOfMonth(1);
     }
 
-    public boolean isWithinPaymentWindow(LoanInstallment installment, LocalDate now) {
-        LocalDate limitDate = now.plusMonths(3).withDayOfMonth(1);
-        return !installment.getDueDate().isAfter(limitDate);
+    // both at InstallmentAmountCalculator.AMOUNT_SCALE
+    public boolean canPayInstallment(long amountLeft, long finalAmount) {
+        return amountLeft >= finalAmount;
     }
 
-    public boolean canPayInstallment(BigDecimal amountLeft, BigDecimal finalAmount) {
-        return amountLeft.compareTo(finalAmount) >= 0;
+    // installments are paid strictly in order, so an amount covers a prefix of them; shared by payment and preview
+    public int coveredCount(long[] finalAmounts, long amount) {
+        int count = 0;
+        long amountLeft = amount;
+        while (count < finalAmounts.length && canPayInstallment(amountLeft, finalAmounts[count])) {
+            amountLeft -= finalAmounts[count++];
+        }
+        return count;
     }
 
+    // only mutates the managed entity; the changed rows are flushed together as one JDBC batch on commit
     public void payInstallment(LoanInstallment installment, BigDecimal finalAmount, LocalDate paymentDate) {
         installment.setPaidAmount(finalAmount);
         installment.setIsPaid(true);
         installment.setPaymentDate(paymentDate);
-        installmentRepository.save(installment);
     }
 }
@@ -0,0 +1,11 @@
+package com.ekiziltan.loan.service.pay;
+
+/**
+ * How concurrent payments are isolated ({@code app.payment.concurrency}).
+ */
+public enum PaymentConcurrencyMode {
+    /** Lock row plus {@code SELECT ... FOR UPDATE} on the loan. */
+    PESSIMISTIC,
+    /** {@code @Version} checks on commit, the payment is retried on conflict. */
+    OPTIMISTIC
+}
@@ -0,0 +1,8 @@
+package com.ekiziltan.loan.service.pay;
+
+import com.ekiziltan.loan.dto.PayInstallmentRequest;
+import com.ekiziltan.loan.dto.PaymentPreviewResponse;
+import com.ekiziltan.loan.service.LoanBase;
+
+public interface PaymentPreviewService extends LoanBase<PayInstallmentRequest, PaymentPreviewResponse> {
+}
@@ -0,0 +1,75 @@
+package com.ekiziltan.loan.service.pay;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.dto.PayInstallmentRequest;
+import com.ekiziltan.loan.dto.PaymentPreviewInstallment;
+import com.ekiziltan.loan.dto.PaymentPreviewResponse;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.service.cache.InstallmentScheduleCache;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers "what would this amount pay" with the same window, adjustment and ordering rules as
+ * {@link InstallmentPayServiceImpl}, but against the cached schedule: no lock rows, no row locks, no writes.
+ */
+@RequiredArgsConstructor
+@Service
+public class PaymentPreviewServiceImpl implements PaymentPreviewService {
+
+    private final InstallmentScheduleCache installmentScheduleCache;
+    private final InstallmentAmountCalculator amountCalculator;
+    private final InstallmentProcessor installmentProcessor;
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN') or @loanOwnerSecurityService.isLoanOwner(#request.loanId, principal.customerId)")
+    public PaymentPreviewResponse execute(PayInstallmentRequest request) {
+        LocalDate now = LocalDate.now(ZoneId.of("UTC"));
+        List<LoanInstallmentDTO> schedule = installmentScheduleCache.getSchedule(request.getLoanId());
+        if (schedule.isEmpty()) {
+            throw new ApiException(LoanServiceConstants.ERROR_LOAN_NOT_FOUND, HttpStatus.NOT_FOUND);
+        }
+
+        // the schedule is ordered by due date, like the payable installments query
+        LocalDate limit = installmentProcessor.paymentWindowLimit(now);
+        List<LoanInstallmentDTO> unpaid = schedule.stream().filter(installment -> !installment.getIsPaid()).toList();
+        List<LoanInstallmentDTO> payable = unpaid.stream().filter(installment -> !installment.getDueDate().isAfter(limit)).toList();
+
+        long[] finalAmounts = amountCalculator.calculateFinalAmounts(payable,
+                LoanInstallmentDTO::getAmount, LoanInstallmentDTO::getDueDate, now);
+
+        long payUnits = InstallmentAmountCalculator.toUnits(request.getPayAmount());
+        int paidCount = installmentProcessor.coveredCount(finalAmounts, payUnits);
+
+        List<PaymentPreviewInstallment> rows = new ArrayList<>(paidCount);
+        long totalSpent = 0;
+        for (int i = 0; i < paidCount; i++) {
+            LoanInstallmentDTO installment = payable.get(i);
+            long amountUnits = InstallmentAmountCalculator.toUnits(installment.getAmount());
+            rows.add(PaymentPreviewInstallment.builder()
+                    .installmentId(installment.getId())
+                    .dueDate(installment.getDueDate())
+                    .amount(installment.getAmount())
+                    .finalAmount(InstallmentAmountCalculator.toAmount(finalAmounts[i]))
+                    .adjustment(InstallmentAmountCalculator.toAmount(finalAmounts[i] - amountUnits))
+                    .build());
+            totalSpent += finalAmounts[i];
+        }
+
+        return PaymentPreviewResponse.builder()
+                .paidInstalments(paidCount)
+                .totalSpent(InstallmentAmountCalculator.toAmount(totalSpent))
+                .amountLeft(request.getPayAmount().subtract(InstallmentAmountCalculator.toAmount(totalSpent)))
+                .loanIsFullyPaid(paidCount == unpaid.size())
+                .installments(rows)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.ekiziltan.loan.service.quote;
+
+import com.ekiziltan.loan.dto.LoanQuoteRequest;
+import com.ekiziltan.loan.dto.LoanQuoteResponse;
+import com.ekiziltan.loan.service.LoanBase;
+
+public interface LoanQuoteService extends LoanBase<LoanQuoteRequest, LoanQuoteResponse> {
+}
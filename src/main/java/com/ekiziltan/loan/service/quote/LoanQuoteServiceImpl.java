@@ -0,0 +1,109 @@
+package com.ekiziltan.loan.service.quote;
+
+import com.ekiziltan.loan.dto.LoanQuoteInstallment;
+import com.ekiziltan.loan.dto.LoanQuoteRequest;
+import com.ekiziltan.loan.dto.LoanQuoteResponse;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.service.LoanFactory;
+import com.ekiziltan.loan.service.amortization.AmortizationEngine;
+import com.ekiziltan.loan.service.amortization.AmortizationSchedule;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import com.ekiziltan.loan.validations.LoanValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulates a loan with the same {@link AmortizationEngine} and {@link LoanFactory} loan creation uses, without
+ * reading or writing anything. The schedule part of a quote is a pure function of (principal, rate, installment
+ * count), so the most recent ones are kept in a per-node {@link ShardedLruCache}; the fields echoing the request are filled in per call.
+ */
+@Service
+public class LoanQuoteServiceImpl implements LoanQuoteService {
+
+    private static final int RATE_SCALE = 4;
+
+    private final AmortizationEngine amortizationEngine;
+    private final ShardedLruCache<QuoteKey, LoanQuoteResponse> quotes;
+
+    public LoanQuoteServiceImpl(AmortizationEngine amortizationEngine,
+                                @Value("${app.quote.cache-size:10000}") int cacheSize) {
+        this.amortizationEngine = amortizationEngine;
+        this.quotes = new ShardedLruCache<>(cacheSize);
+    }
+
+    @Override
+    public LoanQuoteResponse execute(LoanQuoteRequest request) {
+        validate(request);
+        // every amount of the quote derives from the principal in whole cents, like the installments it stores
+        BigDecimal principal = AmortizationEngine.fromCents(AmortizationEngine.toCents(request.getPrincipalAmount()));
+        QuoteKey key = new QuoteKey(AmortizationEngine.toCents(principal),
+                AmortizationEngine.toRateMicros(request.getInterestRate()), request.getNumberOfInstallment());
+
+        LoanQuoteResponse quote = quotes.get(key);
+        if (quote == null) {
+            quote = quote(key);
+            quotes.put(key, quote);
+        }
+        // requests that round to the same key may still differ in the rate they sent
+        BigDecimal loanAmount = LoanFactory.totalLoanAmount(principal, request.getInterestRate());
+        return quote.toBuilder()
+                .interestRate(request.getInterestRate())
+                .loanAmount(loanAmount)
+                .interestAmount(loanAmount.subtract(principal))
+                .build();
+    }
+
+    private LoanQuoteResponse quote(QuoteKey key) {
+        AmortizationSchedule schedule = amortizationEngine.schedule(key.principalCents(), key.annualRateMicros(),
+                key.installmentCount());
+
+        List<LoanQuoteInstallment> installments = new ArrayList<>(schedule.size());
+        long remaining = key.principalCents();
+        long total = 0;
+        for (int i = 0; i < schedule.size(); i++) {
+            remaining -= schedule.principal(i);
+            total += schedule.amount(i);
+            installments.add(LoanQuoteInstallment.builder()
+                    .installmentNumber(i + 1)
+                    .amount(AmortizationEngine.fromCents(schedule.amount(i)))
+                    .principalPortion(AmortizationEngine.fromCents(schedule.principal(i)))
+                    .interestPortion(AmortizationEngine.fromCents(schedule.interest(i)))
+                    .remainingPrincipal(AmortizationEngine.fromCents(remaining))
+                    .build());
+        }
+
+        BigDecimal monthlyRate = BigDecimal.valueOf(key.annualRateMicros(), 6)
+                .divide(BigDecimal.valueOf(12), MathContext.DECIMAL64);
+        return LoanQuoteResponse.builder()
+                .principalAmount(AmortizationEngine.fromCents(key.principalCents()))
+                .numberOfInstallment(key.installmentCount())
+                .installmentAmount(AmortizationEngine.fromCents(schedule.amount(0)))
+                .scheduleTotalAmount(AmortizationEngine.fromCents(total))
+                .scheduleTotalInterest(AmortizationEngine.fromCents(total - key.principalCents()))
+                .apr(BigDecimal.valueOf(key.annualRateMicros(), 4).setScale(RATE_SCALE, RoundingMode.HALF_UP))
+                .effectiveAnnualRate(BigDecimal.ONE.add(monthlyRate).pow(12, MathContext.DECIMAL64)
+                        .subtract(BigDecimal.ONE).movePointRight(2).setScale(RATE_SCALE, RoundingMode.HALF_UP))
+                .installments(List.copyOf(installments))
+                .build();
+    }
+
+    private static void validate(LoanQuoteRequest request) {
+        if (request == null || request.getPrincipalAmount() == null || request.getInterestRate() == null
+                || request.getNumberOfInstallment() == null) {
+            throw new ApiException(LoanServiceConstants.ERROR_INVALID_LOAN_REQUEST, HttpStatus.BAD_REQUEST);
+        }
+        LoanValidator.validateLoanInstallments(request.getNumberOfInstallment());
+        LoanValidator.validateInterestRate(request.getInterestRate());
+        LoanValidator.validatePrincipalAmount(request.getPrincipalAmount());
+    }
+
+    private record QuoteKey(long principalCents, long annualRateMicros, int installmentCount) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.ekiziltan.loan.service.quote;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU split into independently locked shards. An access-ordered {@link LinkedHashMap} relinks its
+ * entries on every read, so one shared map would serialize all callers on a single monitor; with shards,
+ * concurrent callers only contend when their keys hash to the same shard. Recency is tracked per shard, so
+ * eviction is approximately LRU across the whole cache.
+ */
+final class ShardedLruCache<K, V> {
+
+    private static final int DEFAULT_SHARD_COUNT = 16;
+
+    private final Map<K, V>[] shards;
+
+    ShardedLruCache(int maxSize) {
+        this(maxSize, DEFAULT_SHARD_COUNT);
+    }
+
+    // shardCount must be a power of two, see shard()
+    @SuppressWarnings("unchecked")
+    ShardedLruCache(int maxSize, int shardCount) {
+        int shardCapacity = Math.max(1, (maxSize + shardCount - 1) / shardCount);
+        this.shards = new Map[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > shardCapacity;
+                }
+            };
+        }
+    }
+
+    V get(K key) {
+        Map<K, V> shard = shard(key);
+        synchronized (shard) {
+            return shard.get(key);
+        }
+    }
+
+    void put(K key, V value) {
+        Map<K, V> shard = shard(key);
+        synchronized (shard) {
+            shard.put(key, value);
+        }
+    }
+
+    private Map<K, V> shard(K key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (shards.length - 1)];
+    }
+}
@@ -15,5 +15,9 @@ public final class LoanServiceConstants {
     public static final String ERROR_ACTIVE_LOAN_APPLICATION = "There is an active loan application for this customer.";
     public static final String ERROR_ACTIVE_LOCK_NOT_FOUND = "Active loan application lock not found.";
     public static final String ERROR_ACTIVE_INSTALLMENT_PAYMENT = "There is an active installment payment for this loan.";
+    public static final String ERROR_INVALID_LOAN_REQUEST = "Loan request is missing required fields.";
+    public static final String ERROR_BULK_CHUNK_FAILED = "Loans of this chunk could not be persisted";
+    public static final String ERROR_LOAN_NOT_FOUND = "Loan not found.";
+    public static final String ERROR_PAYMENT_CONFLICT = "Loan was updated by a concurrent payment, please retry.";
 }
 
@@ -1,7 +1,6 @@
 package com.ekiziltan.loan.validations;
 
 import com.ekiziltan.loan.dto.CreateLoanRequest;
-import com.ekiziltan.loan.entity.Customer;
 import com.ekiziltan.loan.handlers.exceptions.ApiException;
 import org.springframework.http.HttpStatus;
 
@@ -12,14 +11,20 @@ public class LoanValidator {
 
     private static final String ERROR_CUSTOMER_EXCEEDS_LIMIT = "Customer exceeds credit limit!";
 
+    public static final List<Integer> ALLOWED_INSTALLMENT_COUNTS = List.of(6, 9, 12, 24);
+    public static final double MIN_INTEREST_RATE = 0.1;
+    public static final double MAX_INTEREST_RATE = 0.5;
+    // keeps balance * rate in the amortization engine's long cent arithmetic far from overflow
+    public static final BigDecimal MAX_PRINCIPAL_AMOUNT = new BigDecimal("1000000000");
+
     public static void validateLoanInstallments(Integer installments) {
-        if (!List.of(6, 9, 12, 24).contains(installments)) {
+        if (!ALLOWED_INSTALLMENT_COUNTS.contains(installments)) {
             throw new ApiException("Installment count must be one of 6, 9, 12, 24", HttpStatus.BAD_REQUEST);
         }
     }
 
     public static void validateInterestRate(Double interestRate) {
-        if (interestRate < 0.1 || interestRate > 0.5) {
+        if (interestRate < MIN_INTEREST_RATE || interestRate > MAX_INTEREST_RATE) {
             throw new ApiException("Interest rate must be between 0.1 and 0.5", HttpStatus.BAD_REQUEST);
         }
     }
@@ -28,6 +33,9 @@ public class LoanValidator {
         if (principalAmount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new ApiException("Principal amount must be greater than 0", HttpStatus.BAD_REQUEST);
         }
+        if (principalAmount.compareTo(MAX_PRINCIPAL_AMOUNT) > 0) {
+            throw new ApiException("Principal amount must not exceed 1000000000", HttpStatus.BAD_REQUEST);
+        }
     }
     public static void validateCreateLoanRequest(CreateLoanRequest request){
         validateLoanInstallments(request.getNumberOfInstallment());
@@ -35,8 +43,13 @@ public class LoanValidator {
         validatePrincipalAmount(request.getPrincipalAmount());
 
     }
-    public static void checkLoanLimitExceed(BigDecimal newUsed, Customer customer) {
-        if (newUsed.compareTo(customer.getCreditLimit()) > 0) {
+    public static boolean isWithinLimit(BigDecimal newUsed, BigDecimal creditLimit) {
+        return newUsed.compareTo(creditLimit) <= 0;
+    }
+
+    // outcome of a CreditLedger reservation, which applies the same limit check atomically
+    public static void checkCreditReserved(boolean reserved) {
+        if (!reserved) {
             throw new ApiException(ERROR_CUSTOMER_EXCEEDS_LIMIT, HttpStatus.BAD_REQUEST);
         }
     }
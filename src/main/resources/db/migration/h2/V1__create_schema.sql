@@ -0,0 +1,64 @@
+-- Baseline schema as mapped by the JPA entities (H2 flavour of db/migration/mysql).
+
+CREATE TABLE customers (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name              VARCHAR(255) NOT NULL,
+    surname           VARCHAR(255) NOT NULL,
+    credit_limit      NUMERIC(19, 2),
+    used_credit_limit NUMERIC(19, 2),
+    username          VARCHAR(255),
+    password          VARCHAR(255) NOT NULL,
+    role              VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE loans (
+    id                    BIGINT NOT NULL,
+    customer_id           BIGINT NOT NULL,
+    loan_amount           NUMERIC(19, 2),
+    number_of_installment INTEGER,
+    interest_rate         FLOAT(53),
+    principal_amount      NUMERIC(19, 2),
+    interest_amount       NUMERIC(19, 2),
+    create_date           DATE,
+    is_paid               BOOLEAN,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loans_customer FOREIGN KEY (customer_id) REFERENCES customers (id)
+);
+
+CREATE TABLE loan_installments (
+    id                        BIGINT NOT NULL,
+    loan_id                   BIGINT NOT NULL,
+    amount                    NUMERIC(19, 2),
+    paid_amount               NUMERIC(19, 2),
+    due_date                  DATE,
+    payment_date              DATE,
+    is_paid                   BOOLEAN,
+    principal_portion         NUMERIC(19, 2),
+    interest_portion          NUMERIC(19, 2),
+    installment_interest_rate NUMERIC(5, 4),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_installments_loan FOREIGN KEY (loan_id) REFERENCES loans (id)
+);
+
+CREATE SEQUENCE loans_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE loan_installments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE loan_application_lock (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    customer_id  BIGINT,
+    status       ENUM ('DONE', 'FAILED', 'IN_PROGRESS'),
+    created_date TIMESTAMP(6),
+    updated_date TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE installment_payment_lock (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    loan_id      BIGINT,
+    customer_id  BIGINT,
+    status       ENUM ('DONE', 'FAILED', 'IN_PROGRESS'),
+    created_date TIMESTAMP(6),
+    updated_date TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
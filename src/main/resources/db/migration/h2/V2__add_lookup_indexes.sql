@@ -0,0 +1,12 @@
+-- Lookup indexes declared on the entities (H2 flavour of db/migration/mysql).
+
+CREATE INDEX idx_loans_customer_create_date_paid ON loans (customer_id, create_date, is_paid);
+
+CREATE INDEX idx_loan_installments_loan_due_date ON loan_installments (loan_id, due_date);
+
+CREATE INDEX idx_loan_app_lock_customer_status ON loan_application_lock (customer_id, status);
+CREATE INDEX idx_loan_app_lock_status_created ON loan_application_lock (status, created_date);
+
+CREATE INDEX idx_inst_pay_lock_loan_status ON installment_payment_lock (loan_id, status);
+CREATE INDEX idx_inst_pay_lock_customer_status ON installment_payment_lock (customer_id, status);
+CREATE INDEX idx_inst_pay_lock_status_created ON installment_payment_lock (status, created_date);
@@ -0,0 +1,7 @@
+-- @Version columns for the optimistic payment mode (H2 flavour of db/migration/mysql).
+
+ALTER TABLE customers ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE loans ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE loan_installments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,5 @@
+-- Id sequences for databases baselined at V1 (H2 flavour of db/migration/mysql).
+-- H2 databases are always created from V1, so the sequences exist and this is a no-op.
+
+CREATE SEQUENCE IF NOT EXISTS loans_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS loan_installments_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,73 @@
+-- Baseline schema as mapped by the JPA entities.
+-- Loan and installment ids come from pooled generators (allocation size 50); MySQL has no sequences,
+-- so Hibernate emulates them with single row tables.
+
+CREATE TABLE customers (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    name              VARCHAR(255) NOT NULL,
+    surname           VARCHAR(255) NOT NULL,
+    credit_limit      DECIMAL(19, 2),
+    used_credit_limit DECIMAL(19, 2),
+    username          VARCHAR(255),
+    password          VARCHAR(255) NOT NULL,
+    role              VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE loans (
+    id                    BIGINT NOT NULL,
+    customer_id           BIGINT NOT NULL,
+    loan_amount           DECIMAL(19, 2),
+    number_of_installment INT,
+    interest_rate         DOUBLE,
+    principal_amount      DECIMAL(19, 2),
+    interest_amount       DECIMAL(19, 2),
+    create_date           DATE,
+    is_paid               BIT(1),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loans_customer FOREIGN KEY (customer_id) REFERENCES customers (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE loan_installments (
+    id                        BIGINT NOT NULL,
+    loan_id                   BIGINT NOT NULL,
+    amount                    DECIMAL(19, 2),
+    paid_amount               DECIMAL(19, 2),
+    due_date                  DATE,
+    payment_date              DATE,
+    is_paid                   BIT(1),
+    principal_portion         DECIMAL(19, 2),
+    interest_portion          DECIMAL(19, 2),
+    installment_interest_rate DECIMAL(5, 4),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_installments_loan FOREIGN KEY (loan_id) REFERENCES loans (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE loans_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO loans_seq VALUES (1);
+
+CREATE TABLE loan_installments_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO loan_installments_seq VALUES (1);
+
+CREATE TABLE loan_application_lock (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    customer_id  BIGINT,
+    status       ENUM ('DONE', 'FAILED', 'IN_PROGRESS'),
+    created_date DATETIME(6),
+    updated_date DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE installment_payment_lock (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    loan_id      BIGINT,
+    customer_id  BIGINT,
+    status       ENUM ('DONE', 'FAILED', 'IN_PROGRESS'),
+    created_date DATETIME(6),
+    updated_date DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
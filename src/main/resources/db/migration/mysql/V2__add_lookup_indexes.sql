@@ -0,0 +1,21 @@
+-- Lookup indexes declared on the entities (checked at startup by SchemaIndexValidator).
+-- Built online: InnoDB keeps the tables readable and writable while each index is created.
+
+ALTER TABLE loans
+    ADD INDEX idx_loans_customer_create_date_paid (customer_id, create_date, is_paid),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE loan_installments
+    ADD INDEX idx_loan_installments_loan_due_date (loan_id, due_date),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE loan_application_lock
+    ADD INDEX idx_loan_app_lock_customer_status (customer_id, status),
+    ADD INDEX idx_loan_app_lock_status_created (status, created_date),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE installment_payment_lock
+    ADD INDEX idx_inst_pay_lock_loan_status (loan_id, status),
+    ADD INDEX idx_inst_pay_lock_customer_status (customer_id, status),
+    ADD INDEX idx_inst_pay_lock_status_created (status, created_date),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,13 @@
+-- @Version columns for the optimistic payment mode. INSTANT only changes metadata, no table rebuild.
+
+ALTER TABLE customers
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE loans
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE loan_installments
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
@@ -0,0 +1,18 @@
+-- Id generator tables for databases baselined at V1, which never ran V1__create_schema.sql.
+-- Their loans and installments were numbered by AUTO_INCREMENT, so each table is seeded past the highest id.
+-- Hibernate's pooled optimizer hands out the block (next_val - 50, next_val], hence MAX(id) + 50.
+-- On a database created by V1 the tables already hold a row and are left untouched.
+
+CREATE TABLE IF NOT EXISTS loans_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO loans_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM loans
+WHERE NOT EXISTS (SELECT 1 FROM loans_seq);
+
+CREATE TABLE IF NOT EXISTS loan_installments_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO loan_installments_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50 FROM loan_installments
+WHERE NOT EXISTS (SELECT 1 FROM loan_installments_seq);
@@ -0,0 +1,68 @@
+package com.ekiziltan.loan.benchmark;
+
+import com.ekiziltan.loan.service.amortization.AmortizationEngine;
+import com.ekiziltan.loan.service.amortization.AnnuityFactorTable;
+import com.ekiziltan.loan.service.amortization.AmortizationSchedule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The previous double/BigDecimal schedule loop vs {@link AmortizationEngine} for a 24 installment loan.
+ * Only the schedule math is measured; building the installment entities costs the same in both.
+ * Run with {@code main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmortizationBenchmark {
+
+    private final AmortizationEngine engine = new AmortizationEngine(new AnnuityFactorTable());
+    private final BigDecimal principal = new BigDecimal("12345.67");
+    private final double interestRate = 0.37;
+    private final int installmentCount = 24;
+
+    @Benchmark
+    public AmortizationSchedule engine() {
+        return engine.schedule(principal, interestRate, installmentCount);
+    }
+
+    @Benchmark
+    public BigDecimal[][] legacy() {
+        double monthlyInterestRate = interestRate / 12;
+        double p = principal.doubleValue();
+        double i = monthlyInterestRate;
+        double monthlyPaymentDouble = p * (i * Math.pow(1 + i, installmentCount)) / (Math.pow(1 + i, installmentCount) - 1);
+        BigDecimal monthlyPayment = BigDecimal.valueOf(monthlyPaymentDouble).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal currentBalance = principal;
+
+        BigDecimal[][] rows = new BigDecimal[installmentCount][];
+        for (int index = 0; index < installmentCount; index++) {
+            BigDecimal interest = currentBalance.multiply(BigDecimal.valueOf(monthlyInterestRate))
+                    .setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principalPortion = monthlyPayment.subtract(interest);
+            if (principalPortion.compareTo(currentBalance) > 0) {
+                principalPortion = currentBalance;
+            }
+            BigDecimal rate = BigDecimal.valueOf(monthlyInterestRate).setScale(4, RoundingMode.HALF_UP);
+            rows[index] = new BigDecimal[]{monthlyPayment, principalPortion, interest, rate};
+            currentBalance = currentBalance.subtract(principalPortion);
+            if (currentBalance.compareTo(BigDecimal.ZERO) < 0) {
+                currentBalance = BigDecimal.ZERO;
+            }
+        }
+        return rows;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AmortizationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
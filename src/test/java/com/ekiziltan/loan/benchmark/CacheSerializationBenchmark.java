@@ -0,0 +1,77 @@
+package com.ekiziltan.loan.benchmark;
+
+import com.ekiziltan.loan.service.cache.InstallmentSchedule;
+import com.ekiziltan.loan.service.cache.serialization.CacheFixtures;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Java serialization vs the compact serializers for a cached 24 installment schedule.
+ * Run with {@code main} from the test classpath; {@code CacheSerializersTest} reports the serialized sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+    private HazelcastInstance hazelcastInstance;
+    private SerializationService serializationService;
+    private InstallmentSchedule schedule;
+    private Data compactData;
+    private byte[] javaBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        hazelcastInstance = Hazelcast.newHazelcastInstance(CacheFixtures.standaloneConfig());
+        serializationService = ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
+        schedule = CacheFixtures.schedule(7L, 24);
+        compactData = serializationService.toData(schedule);
+        javaBytes = CacheFixtures.javaSerialize(schedule);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hazelcastInstance.shutdown();
+    }
+
+    @Benchmark
+    public Data compactSerialize() {
+        return serializationService.toData(schedule);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return serializationService.toObject(compactData);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        return CacheFixtures.javaSerialize(schedule);
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(javaBytes))) {
+            return in.readObject();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CacheSerializationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.ekiziltan.loan.config;
+
+import com.ekiziltan.loan.service.credit.CreditExposureMapStore;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class HazelcastConfigTest {
+
+    @Test
+    void testMapTiersAreBoundFromProperties() {
+        CacheTierProperties properties = bind(Map.of(
+                "app.cache.maps.loansCache.in-memory-format", "OBJECT",
+                "app.cache.maps.loansCache.eviction-policy", "LFU",
+                "app.cache.maps.loansCache.max-size", "500",
+                "app.cache.maps.loansCache.near-cache.enabled", "true",
+                "app.cache.maps.loansCache.near-cache.max-size", "50"));
+
+        Config config = configuration(properties);
+
+        MapConfig loans = config.getMapConfig("loansCache");
+        assertEquals(InMemoryFormat.OBJECT, loans.getInMemoryFormat());
+        assertEquals(EvictionPolicy.LFU, loans.getEvictionConfig().getEvictionPolicy());
+        assertEquals(500, loans.getEvictionConfig().getSize());
+        assertNotNull(loans.getNearCacheConfig());
+        assertTrue(loans.getNearCacheConfig().isInvalidateOnChange());
+        assertEquals(50, loans.getNearCacheConfig().getEvictionConfig().getSize());
+    }
+
+    @Test
+    void testUnconfiguredCacheKeepsDefaults() {
+        Config config = configuration(new CacheTierProperties());
+
+        MapConfig installments = config.getMapConfig("installmentsCache");
+        assertEquals(300, installments.getTimeToLiveSeconds());
+        assertEquals(InMemoryFormat.BINARY, installments.getInMemoryFormat());
+        assertNull(installments.getNearCacheConfig());
+    }
+
+    @Test
+    void testCreditExposureMapOnlyWithHazelcastLedger() {
+        assertFalse(configuration(new CacheTierProperties()).getMapConfigs().containsKey("creditExposure"));
+
+        MapConfig exposure = HazelcastConfig.creditExposureMapConfig(mock(CreditExposureMapStore.class), 5);
+
+        assertEquals(InMemoryFormat.OBJECT, exposure.getInMemoryFormat());
+        assertTrue(exposure.getMapStoreConfig().isEnabled());
+        assertEquals(5, exposure.getMapStoreConfig().getWriteDelaySeconds());
+        assertEquals(MapStoreConfig.InitialLoadMode.LAZY, exposure.getMapStoreConfig().getInitialLoadMode());
+    }
+
+    private static Config configuration(CacheTierProperties properties) {
+        return new HazelcastConfig().hazelcastConfiguration(properties,
+                new StaticListableBeanFactory().getBeanProvider(CreditExposureMapStore.class), 1);
+    }
+
+    private static CacheTierProperties bind(Map<String, String> source) {
+        return new Binder(new MapConfigurationPropertySource(source))
+                .bind("app.cache", CacheTierProperties.class)
+                .get();
+    }
+}
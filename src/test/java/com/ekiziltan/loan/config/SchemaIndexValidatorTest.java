@@ -0,0 +1,48 @@
+package com.ekiziltan.loan.config;
+
+import com.ekiziltan.loan.entity.LoanInstallment;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SchemaIndexValidatorTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void testGeneratedSchemaHasAllDeclaredIndexes() throws SQLException {
+        SchemaIndexValidator validator = new SchemaIndexValidator(dataSource, entityManagerFactory);
+
+        assertEquals(List.of(), validator.findMissingIndexes());
+    }
+
+    @Test
+    void testMissingIndexFailsStartup() {
+        SchemaIndexValidator validator = new SchemaIndexValidator(dataSource, entityManagerFactory);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP INDEX " + LoanInstallment.IDX_LOAN_DUE_DATE);
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, validator::afterPropertiesSet);
+            assertTrue(exception.getMessage().contains(LoanInstallment.IDX_LOAN_DUE_DATE));
+        } finally {
+            jdbcTemplate.execute("CREATE INDEX " + LoanInstallment.IDX_LOAN_DUE_DATE + " ON "
+                    + LoanInstallment.TABLE_NAME + " (" + LoanInstallment.COL_LOAN + ", " + LoanInstallment.COL_DUE_DATE + ")");
+        }
+    }
+}
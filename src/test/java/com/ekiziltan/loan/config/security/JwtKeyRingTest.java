@@ -0,0 +1,180 @@
+package com.ekiziltan.loan.config.security;
+
+import com.ekiziltan.loan.service.cache.serialization.CacheFixtures;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+// rings sharing one member stand in for nodes of the same cluster
+class JwtKeyRingTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private static HazelcastInstance hazelcastInstance;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void startMember() {
+        hazelcastInstance = Hazelcast.newHazelcastInstance(CacheFixtures.standaloneConfig());
+    }
+
+    @AfterAll
+    static void stopMember() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        hazelcastInstance.getMap(JwtKeyRing.KEYS_MAP).clear();
+        hazelcastInstance.getMap(JwtKeyRing.STATE_MAP).clear();
+    }
+
+    @Test
+    void testTokenIssuedOnOneNodeVerifiesOnAnother() throws Exception {
+        JwtTokenProvider nodeA = provider(ring(SECRET, "default", ""));
+        JwtTokenProvider nodeB = provider(ring(SECRET, "default", ""));
+
+        String token = nodeA.generateToken(7L, "customer", "ROLE_CUSTOMER");
+
+        assertEquals(7L, nodeB.authenticate(token).orElseThrow().getCustomerId());
+    }
+
+    @Test
+    void testNodeWithoutConfiguredKeyAdoptsClusterKey() throws Exception {
+        JwtKeyRing first = ring("", "default", "");
+        JwtKeyRing second = ring("", "default", "");
+
+        assertEquals(first.currentKeyId(), second.currentKeyId());
+        assertEquals(1, hazelcastInstance.getMap(JwtKeyRing.KEYS_MAP).size());
+    }
+
+    @Test
+    void testRotationKeepsOldTokensValid() throws Exception {
+        JwtKeyRing ringA = ring(SECRET, "default", "");
+        JwtKeyRing ringB = ring(SECRET, "default", "");
+        JwtTokenProvider nodeA = provider(ringA);
+        String before = nodeA.generateToken(7L, "customer", "ROLE_CUSTOMER");
+
+        assertFalse(ringB.rotateIfOlderThan(60_000));
+        assertTrue(ringB.rotateIfOlderThan(0));
+
+        assertNotEquals("default", ringA.currentKeyId());
+        String after = nodeA.generateToken(7L, "customer", "ROLE_CUSTOMER");
+        JwtTokenProvider nodeB = provider(ringB);
+        assertTrue(nodeB.authenticate(before).isPresent());
+        assertTrue(nodeB.authenticate(after).isPresent());
+    }
+
+    @Test
+    void testRemovedKeyStopsVerifyingOnNodesThatCachedIt() throws Exception {
+        JwtKeyRing ringA = ring(SECRET, "default", "");
+        JwtKeyRing ringB = ring(SECRET, "default", "");
+        JwtTokenProvider nodeA = provider(ringA);
+        String before = nodeA.generateToken(7L, "customer", "ROLE_CUSTOMER");
+        assertNotNull(ringB.verificationKey("default"));
+
+        assertTrue(ringA.rotateIfOlderThan(0));
+        hazelcastInstance.getMap(JwtKeyRing.KEYS_MAP).remove("default");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (ringB.verificationKey("default") != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(ringB.verificationKey("default"));
+        assertTrue(provider(ringB).authenticate(before).isEmpty());
+    }
+
+    @Test
+    void testUnknownKeyIdIsLookedUpOnceUntilPublished() throws Exception {
+        JwtKeyRing ring = ring(SECRET, "default", "");
+        long gets = hazelcastInstance.getMap(JwtKeyRing.KEYS_MAP).getLocalMapStats().getGetOperationCount();
+
+        assertNull(ring.verificationKey("made-up"));
+        assertNull(ring.verificationKey("made-up"));
+        assertEquals(gets + 1, hazelcastInstance.getMap(JwtKeyRing.KEYS_MAP).getLocalMapStats().getGetOperationCount());
+
+        hazelcastInstance.<String, byte[]>getMap(JwtKeyRing.KEYS_MAP).put("made-up", new byte[32]);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (ring.verificationKey("made-up") == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotNull(ring.verificationKey("made-up"));
+    }
+
+    @Test
+    void testWeakOrPlaceholderSecretIsRejected() {
+        assertThrows(IllegalStateException.class, () -> ring("short-secret", "default", ""));
+        assertThrows(IllegalStateException.class, () -> ring("loan-secret", "default", ""));
+        assertThrows(IllegalStateException.class, () -> ring("your_jwt_secret", "default", ""));
+    }
+
+    @Test
+    void testRequiredKeySourceStopsStartupWithoutConfiguredKey() {
+        JwtKeyRing ring = new JwtKeyRing(hazelcastInstance);
+        configure(ring, "", "default", "");
+        ReflectionTestUtils.setField(ring, "requireConfiguredKey", true);
+
+        assertThrows(IllegalStateException.class, ring::init);
+        assertTrue(hazelcastInstance.getMap(JwtKeyRing.KEYS_MAP).isEmpty());
+    }
+
+    @Test
+    void testKeystoreAliasesBecomeKeyIds() throws Exception {
+        Path keystore = tempDir.resolve("jwt.p12");
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        KeyStore.ProtectionParameter protection = new KeyStore.PasswordProtection("changeit".toCharArray());
+        keyStore.setEntry("2024", new KeyStore.SecretKeyEntry(new SecretKeySpec(new byte[32], "HmacSHA256")), protection);
+        keyStore.setEntry("2025", new KeyStore.SecretKeyEntry(new SecretKeySpec(new byte[48], "HmacSHA256")), protection);
+        try (OutputStream out = Files.newOutputStream(keystore)) {
+            keyStore.store(out, "changeit".toCharArray());
+        }
+
+        JwtKeyRing ring = ring("", "2025", keystore.toString());
+
+        assertEquals("2025", ring.currentKeyId());
+        assertNotNull(ring.verificationKey("2024"));
+        assertEquals(48, ring.signingKey("2025").getEncoded().length);
+        assertThrows(IllegalStateException.class, () -> ring("", "missing", keystore.toString()));
+    }
+
+    private static JwtKeyRing ring(String secret, String keyId, String keystorePath) throws Exception {
+        JwtKeyRing ring = new JwtKeyRing(hazelcastInstance);
+        configure(ring, secret, keyId, keystorePath);
+        ring.init();
+        return ring;
+    }
+
+    private static void configure(JwtKeyRing ring, String secret, String keyId, String keystorePath) {
+        ReflectionTestUtils.setField(ring, "secretKeyString", secret);
+        ReflectionTestUtils.setField(ring, "keyId", keyId);
+        ReflectionTestUtils.setField(ring, "keystorePath", keystorePath);
+        ReflectionTestUtils.setField(ring, "keystorePassword", "changeit");
+        ReflectionTestUtils.setField(ring, "keystoreType", "PKCS12");
+        ReflectionTestUtils.setField(ring, "expirationMs", 60_000L);
+    }
+
+    private static JwtTokenProvider provider(JwtKeyRing ring) {
+        JwtTokenProvider provider = new JwtTokenProvider(ring, new VerifiedTokenCache(100),
+                mock(TokenRevocationService.class));
+        ReflectionTestUtils.setField(provider, "expirationMs", 60_000L);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,113 @@
+package com.ekiziltan.loan.config.security;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtTokenProviderTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = spy(new VerifiedTokenCache(100));
+    private final JwtKeyRing jwtKeyRing = mock(JwtKeyRing.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final JwtTokenProvider jwtTokenProvider =
+            new JwtTokenProvider(jwtKeyRing, verifiedTokenCache, tokenRevocationService);
+
+    @BeforeEach
+    void setUp() {
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        when(jwtKeyRing.currentKeyId()).thenReturn("k1");
+        when(jwtKeyRing.signingKey("k1")).thenReturn(key);
+        when(jwtKeyRing.verificationKey("k1")).thenReturn(key);
+        ReflectionTestUtils.setField(jwtTokenProvider, "expirationMs", 60_000L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void testAuthenticateParsesOnceThenServesFromCache() {
+        String token = jwtTokenProvider.generateToken(7L, "customer", "ROLE_CUSTOMER");
+
+        CustomerPrincipal first = jwtTokenProvider.authenticate(token).orElseThrow();
+        CustomerPrincipal second = jwtTokenProvider.authenticate(token).orElseThrow();
+
+        assertEquals(7L, first.getCustomerId());
+        assertEquals("customer", first.getUsername());
+        assertSame(first, second);
+        verify(verifiedTokenCache, times(1)).put(eq(token), any());
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        String token = jwtTokenProvider.generateToken(7L, "customer", "ROLE_CUSTOMER");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertTrue(jwtTokenProvider.authenticate(tampered).isEmpty());
+        assertTrue(jwtTokenProvider.authenticate("not-a-token").isEmpty());
+    }
+
+    @Test
+    void testTokenSignedWithUnknownKeyIsRejected() {
+        String token = jwtTokenProvider.generateToken(7L, "customer", "ROLE_CUSTOMER");
+        when(jwtKeyRing.verificationKey("k1")).thenReturn(null);
+
+        assertTrue(jwtTokenProvider.authenticate(token).isEmpty());
+    }
+
+    @Test
+    void testRevokedTokenIsRejectedAlsoFromCache() {
+        String token = jwtTokenProvider.generateToken(7L, "customer", "ROLE_CUSTOMER");
+        assertTrue(jwtTokenProvider.authenticate(token).isPresent());
+
+        jwtTokenProvider.revoke(token);
+
+        ArgumentCaptor<String> tokenId = ArgumentCaptor.forClass(String.class);
+        verify(tokenRevocationService).revoke(tokenId.capture(), anyLong());
+        assertNotNull(tokenId.getValue());
+        when(tokenRevocationService.isRevoked(tokenId.getValue())).thenReturn(true);
+        assertTrue(jwtTokenProvider.authenticate(token).isEmpty());
+    }
+
+    @Test
+    void testCacheDropsEntriesAtExpiryAndStaysBounded() {
+        AtomicLong clock = new AtomicLong(1_000);
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock::get);
+        CustomerPrincipal principal = new CustomerPrincipal(1L, "customer", null, "ROLE_CUSTOMER");
+        VerifiedTokenCache.VerifiedToken expiring = new VerifiedTokenCache.VerifiedToken(principal, "a", 2_000);
+        VerifiedTokenCache.VerifiedToken lasting = new VerifiedTokenCache.VerifiedToken(principal, "b", 5_000);
+
+        cache.put("a", expiring);
+        cache.put("b", lasting);
+        assertSame(expiring, cache.get("a"));
+
+        clock.set(2_000);
+        assertNull(cache.get("a"));
+        cache.put("c", lasting);
+        assertSame(lasting, cache.get("b"));
+        assertSame(lasting, cache.get("c"));
+    }
+
+    @Test
+    void testFullCacheEvictsTheEntryClosestToExpiry() {
+        AtomicLong clock = new AtomicLong(1_000);
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock::get);
+        CustomerPrincipal principal = new CustomerPrincipal(1L, "customer", null, "ROLE_CUSTOMER");
+        VerifiedTokenCache.VerifiedToken soon = new VerifiedTokenCache.VerifiedToken(principal, "a", 3_000);
+        VerifiedTokenCache.VerifiedToken later = new VerifiedTokenCache.VerifiedToken(principal, "b", 4_000);
+        VerifiedTokenCache.VerifiedToken latest = new VerifiedTokenCache.VerifiedToken(principal, "c", 5_000);
+
+        cache.put("b", later);
+        cache.put("a", soon);
+        cache.put("c", latest);
+
+        assertNull(cache.get("a"));
+        assertSame(later, cache.get("b"));
+        assertSame(latest, cache.get("c"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.ekiziltan.loan.config.security;
+
+import com.ekiziltan.loan.service.cache.serialization.CacheFixtures;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshTokenStoreTest {
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void startMember() {
+        hazelcastInstance = Hazelcast.newHazelcastInstance(CacheFixtures.standaloneConfig());
+    }
+
+    @AfterAll
+    static void stopMember() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        hazelcastInstance.getMap(RefreshTokenStore.REFRESH_TOKENS_MAP).clear();
+        refreshTokenStore = new RefreshTokenStore(hazelcastInstance);
+        ReflectionTestUtils.setField(refreshTokenStore, "idleMs", 60_000L);
+        ReflectionTestUtils.setField(refreshTokenStore, "maxLifetimeMs", 600_000L);
+    }
+
+    @Test
+    void testRenewReplacesTheToken() {
+        String token = refreshTokenStore.issue(7L, "customer", "ROLE_CUSTOMER");
+
+        RefreshTokenStore.Renewal renewal = refreshTokenStore.renew(token).orElseThrow();
+
+        assertEquals(7L, renewal.session().customerId());
+        assertEquals("ROLE_CUSTOMER", renewal.session().role());
+        assertNotEquals(token, renewal.refreshToken());
+        assertTrue(refreshTokenStore.renew(token).isEmpty());
+        assertTrue(refreshTokenStore.renew(renewal.refreshToken()).isPresent());
+    }
+
+    @Test
+    void testRevokedTokenCannotRenew() {
+        String token = refreshTokenStore.issue(7L, "customer", "ROLE_CUSTOMER");
+
+        refreshTokenStore.revoke(token);
+
+        assertTrue(refreshTokenStore.renew(token).isEmpty());
+        assertTrue(refreshTokenStore.renew(null).isEmpty());
+    }
+
+    @Test
+    void testSessionEndsAtMaxLifetime() throws InterruptedException {
+        ReflectionTestUtils.setField(refreshTokenStore, "maxLifetimeMs", 50L);
+        String token = refreshTokenStore.issue(7L, "customer", "ROLE_CUSTOMER");
+
+        Thread.sleep(100);
+
+        assertTrue(refreshTokenStore.renew(token).isEmpty());
+    }
+
+    @Test
+    void testOnlyTheHashIsStored() {
+        String token = refreshTokenStore.issue(7L, "customer", "ROLE_CUSTOMER");
+
+        assertFalse(hazelcastInstance.getMap(RefreshTokenStore.REFRESH_TOKENS_MAP).containsKey(token));
+        assertTrue(hazelcastInstance.getMap(RefreshTokenStore.REFRESH_TOKENS_MAP)
+                .containsKey(VerifiedTokenCache.hash(token)));
+    }
+}
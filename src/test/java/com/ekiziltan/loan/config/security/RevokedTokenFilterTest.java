@@ -0,0 +1,37 @@
+package com.ekiziltan.loan.config.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenFilterTest {
+
+    @Test
+    void testNoFalseNegativesAndBoundedFalsePositives() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(new UUID(42, i).toString());
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(new UUID(42, i).toString()));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(new UUID(7, i).toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyFilterContainsNothing() {
+        RevokedTokenFilter filter = new RevokedTokenFilter(100, 0.01);
+
+        assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+        assertFalse(filter.mightContain(""));
+    }
+}
@@ -0,0 +1,94 @@
+package com.ekiziltan.loan.config.security;
+
+import com.ekiziltan.loan.service.cache.serialization.CacheFixtures;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// services sharing one member stand in for nodes of the same cluster
+class TokenRevocationServiceTest {
+
+    private static HazelcastInstance hazelcastInstance;
+
+    private final List<TokenRevocationService> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startMember() {
+        hazelcastInstance = Hazelcast.newHazelcastInstance(CacheFixtures.standaloneConfig());
+    }
+
+    @AfterAll
+    static void stopMember() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        hazelcastInstance.getMap(TokenRevocationService.REVOKED_TOKENS_MAP).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(TokenRevocationService::close);
+    }
+
+    @Test
+    void testRevocationReachesOtherNodes() throws InterruptedException {
+        TokenRevocationService nodeA = node();
+        TokenRevocationService nodeB = node();
+
+        nodeA.revoke("jti-1", System.currentTimeMillis() + 60_000);
+
+        assertTrue(nodeA.isRevoked("jti-1"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!nodeB.isRevoked("jti-1") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(nodeB.isRevoked("jti-1"));
+        assertFalse(nodeB.isRevoked("jti-2"));
+        assertFalse(nodeB.isRevoked(null));
+    }
+
+    @Test
+    void testNewNodeLoadsEarlierRevocations() {
+        node().revoke("jti-1", System.currentTimeMillis() + 60_000);
+
+        assertTrue(node().isRevoked("jti-1"));
+    }
+
+    @Test
+    void testExpiredTokenIsNotStored() {
+        TokenRevocationService node = node();
+
+        node.revoke("jti-1", System.currentTimeMillis() - 1);
+
+        assertFalse(node.isRevoked("jti-1"));
+        assertTrue(hazelcastInstance.getMap(TokenRevocationService.REVOKED_TOKENS_MAP).isEmpty());
+    }
+
+    @Test
+    void testRebuildKeepsLiveRevocations() {
+        TokenRevocationService node = node();
+        node.revoke("jti-1", System.currentTimeMillis() + 60_000);
+
+        node.rebuild();
+
+        assertTrue(node.isRevoked("jti-1"));
+    }
+
+    private TokenRevocationService node() {
+        TokenRevocationService node = new TokenRevocationService(hazelcastInstance, 1_000, 0.01);
+        node.init();
+        nodes.add(node);
+        return node;
+    }
+}
@@ -0,0 +1,145 @@
+package com.ekiziltan.loan.controller;
+
+import com.ekiziltan.loan.config.security.JwtTokenProvider;
+import com.ekiziltan.loan.config.security.RefreshSession;
+import com.ekiziltan.loan.config.security.RefreshTokenStore;
+import com.ekiziltan.loan.dto.LoginRequest;
+import com.ekiziltan.loan.dto.LoginResponse;
+import com.ekiziltan.loan.dto.RefreshTokenRequest;
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthControllerTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Spy
+    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(5);
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @InjectMocks
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jwtTokenProvider.generateToken(anyLong(), anyString(), anyString())).thenReturn("access");
+    }
+
+    @Test
+    void testLoginRehashesWeakerPasswordHash() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("cust123");
+        when(customerRepository.findByUsername("customer")).thenReturn(Optional.of(customer(weakHash)));
+        when(refreshTokenStore.issue(7L, "customer", "ROLE_CUSTOMER")).thenReturn("refresh");
+
+        LoginResponse response = authController.login(loginRequest("cust123")).getBody();
+
+        assertEquals("access", response.getToken());
+        assertEquals("refresh", response.getRefreshToken());
+        verify(customerRepository).updatePasswordHash(eq(7L), eq(weakHash),
+                argThat(newHash -> newHash.startsWith("$2a$05$") && passwordEncoder.matches("cust123", newHash)));
+    }
+
+    @Test
+    void testLoginKeepsCurrentPasswordHash() {
+        Customer customer = customer(passwordEncoder.encode("cust123"));
+        when(customerRepository.findByUsername("customer")).thenReturn(Optional.of(customer));
+
+        authController.login(loginRequest("cust123"));
+
+        verify(customerRepository, never()).updatePasswordHash(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void testWrongPasswordIsRejected() {
+        Customer customer = customer(passwordEncoder.encode("cust123"));
+        when(customerRepository.findByUsername("customer")).thenReturn(Optional.of(customer));
+
+        ApiException exception = assertThrows(ApiException.class, () -> authController.login(loginRequest("wrong")));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        verify(refreshTokenStore, never()).issue(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void testRefreshSkipsCustomerLookupAndPasswordHashing() {
+        RefreshSession session = new RefreshSession(7L, "customer", "ROLE_CUSTOMER", 0L);
+        when(refreshTokenStore.renew("refresh"))
+                .thenReturn(Optional.of(new RefreshTokenStore.Renewal(session, "next")));
+
+        LoginResponse response = authController.refresh(refreshRequest("refresh")).getBody();
+
+        assertEquals("access", response.getToken());
+        assertEquals("next", response.getRefreshToken());
+        verifyNoInteractions(customerRepository, passwordEncoder);
+    }
+
+    @Test
+    void testUnknownRefreshTokenIsUnauthorized() {
+        when(refreshTokenStore.renew("stale")).thenReturn(Optional.empty());
+
+        ApiException exception = assertThrows(ApiException.class, () -> authController.refresh(refreshRequest("stale")));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exception.getHttpStatus());
+    }
+
+    @Test
+    void testLogoutRevokesRefreshAndAccessToken() {
+        authController.logout(refreshRequest("refresh"), "Bearer access");
+
+        verify(refreshTokenStore).revoke("refresh");
+        verify(jwtTokenProvider).revoke("access");
+    }
+
+    @Test
+    void testLogoutWithoutBodyRevokesAccessToken() {
+        authController.logout(null, "Bearer access");
+
+        verify(jwtTokenProvider).revoke("access");
+        verify(refreshTokenStore, never()).revoke(any());
+    }
+
+    private static Customer customer(String passwordHash) {
+        Customer customer = new Customer();
+        customer.setId(7L);
+        customer.setUsername("customer");
+        customer.setPassword(passwordHash);
+        customer.setRole("ROLE_CUSTOMER");
+        return customer;
+    }
+
+    private static LoginRequest loginRequest(String password) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("customer");
+        request.setPassword(password);
+        return request;
+    }
+
+    private static RefreshTokenRequest refreshRequest(String refreshToken) {
+        RefreshTokenRequest request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+}
@@ -1,10 +1,13 @@
 package com.ekiziltan.loan.controller;
 
 import com.ekiziltan.loan.dto.*;
+import com.ekiziltan.loan.service.BulkLoanCreationService;
 import com.ekiziltan.loan.service.InstallmentListService;
 import com.ekiziltan.loan.service.LoanCreationService;
 import com.ekiziltan.loan.service.LoansListForCustomerService;
 import com.ekiziltan.loan.service.pay.InstallmentPayService;
+import com.ekiziltan.loan.service.pay.PaymentPreviewService;
+import com.ekiziltan.loan.service.quote.LoanQuoteService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -20,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -36,6 +41,12 @@ class LoanControllerStandaloneTest {
     private InstallmentListService installmentListService;
     @Mock
     private InstallmentPayService installmentPayService;
+    @Mock
+    private BulkLoanCreationService bulkLoanCreationService;
+    @Mock
+    private LoanQuoteService loanQuoteService;
+    @Mock
+    private PaymentPreviewService paymentPreviewService;
     @InjectMocks
     private LoanController loanController;
 
@@ -74,6 +85,68 @@ class LoanControllerStandaloneTest {
 
     }
 
+    @Test
+    void createLoansReturnsPerItemResults() throws Exception {
+        BulkLoanCreationResponse response = BulkLoanCreationResponse.builder()
+                .requested(2).created(1).rejected(1).failed(0)
+                .results(List.of(
+                        BulkLoanItemResult.created(0, 10L, 1L),
+                        BulkLoanItemResult.rejected(1, 11L, "Customer exceeds credit limit!")))
+                .build();
+
+        when(bulkLoanCreationService.execute(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/v1/admin/create-loans")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                  {"customerId": 10, "principalAmount": 1000, "numberOfInstallment": 6, "interestRate": 0.2},
+                                  {"customerId": 11, "principalAmount": 90000, "numberOfInstallment": 6, "interestRate": 0.2}
+                                ]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.results[0].loanId", is(1)))
+                .andExpect(jsonPath("$.results[1].status", is("REJECTED")));
+    }
+
+    @Test
+    void quoteLoanReturnsSchedule() throws Exception {
+        LoanQuoteResponse quote = LoanQuoteResponse.builder()
+                .installmentAmount(new BigDecimal("92.63"))
+                .scheduleTotalInterest(new BigDecimal("111.56"))
+                .installments(List.of(LoanQuoteInstallment.builder().installmentNumber(1).build()))
+                .build();
+
+        when(loanQuoteService.execute(any(LoanQuoteRequest.class))).thenReturn(quote);
+
+        mockMvc.perform(post("/api/v1/customer/quote-loan")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"principalAmount": 1000, "numberOfInstallment": 12, "interestRate": 0.2}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.installmentAmount", is(92.63)))
+                .andExpect(jsonPath("$.installments", hasSize(1)));
+    }
+
+    @Test
+    void previewPaymentDoesNotPay() throws Exception {
+        when(paymentPreviewService.execute(any(PayInstallmentRequest.class))).thenReturn(PaymentPreviewResponse.builder()
+                .paidInstalments(2).totalSpent(new BigDecimal("200.50")).installments(List.of()).build());
+
+        mockMvc.perform(post("/api/v1/customer/preview-payment")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"loanId": 10, "payAmount": 300}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.paidInstalments", is(2)));
+
+        verifyNoInteractions(installmentPayService);
+    }
+
     @Test
     void listLoansNoContent() throws Exception {
         when(loansListForCustomerService.execute(any(LoanListForCustomerRequest.class)))
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +22,9 @@ public class CustomerRepositoryTest {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @Order(1)
     @DisplayName("Should return empty when username does not exist")
@@ -51,5 +56,59 @@ public class CustomerRepositoryTest {
         assertThat(found.get().getUsername()).isEqualTo("john_doe");
     }
 
+    @Test
+    @DisplayName("Should release used credit in place and never below zero")
+    public void testReleaseUsedCredit() {
+        // Arrange
+        Customer customer = new Customer();
+        customer.setUsername("jane_doe");
+        customer.setPassword("password");
+        customer.setName("Jane");
+        customer.setSurname("Doe");
+        customer.setCreditLimit(new BigDecimal("1000.00"));
+        customer.setUsedCreditLimit(new BigDecimal("300.00"));
+        Long customerId = customerRepository.saveAndFlush(customer).getId();
+
+        // Act
+        int updated = customerRepository.releaseUsedCredit(customerId, new BigDecimal("120.50"));
+        customerRepository.releaseUsedCredit(customerId, BigDecimal.ZERO);
+        entityManager.clear();
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(customerRepository.findById(customerId).orElseThrow().getUsedCreditLimit())
+                .isEqualByComparingTo("179.50");
 
+        customerRepository.releaseUsedCredit(customerId, new BigDecimal("500.00"));
+        entityManager.clear();
+        assertThat(customerRepository.findById(customerId).orElseThrow().getUsedCreditLimit())
+                .isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should reserve credit only while the limit holds")
+    public void testReserveCredit() {
+        // Arrange
+        Customer customer = new Customer();
+        customer.setUsername("jim_doe");
+        customer.setPassword("password");
+        customer.setName("Jim");
+        customer.setSurname("Doe");
+        customer.setCreditLimit(new BigDecimal("1000.00"));
+        customer.setUsedCreditLimit(new BigDecimal("300.00"));
+        Long customerId = customerRepository.saveAndFlush(customer).getId();
+
+        // Act
+        int reserved = customerRepository.reserveCredit(customerId, new BigDecimal("700.00"));
+        int rejected = customerRepository.reserveCredit(customerId, new BigDecimal("0.01"));
+        int missing = customerRepository.reserveCredit(-1L, BigDecimal.ONE);
+        entityManager.clear();
+
+        // Assert
+        assertThat(reserved).isEqualTo(1);
+        assertThat(rejected).isZero();
+        assertThat(missing).isZero();
+        assertThat(customerRepository.findById(customerId).orElseThrow().getUsedCreditLimit())
+                .isEqualByComparingTo("1000.00");
+    }
 }
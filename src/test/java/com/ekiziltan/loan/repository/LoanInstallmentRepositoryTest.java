@@ -0,0 +1,78 @@
+package com.ekiziltan.loan.repository;
+
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class LoanInstallmentRepositoryTest {
+
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private LoanInstallmentRepository installmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long loanId;
+
+    @BeforeEach
+    public void setUp() {
+        Customer customer = new Customer();
+        customer.setUsername("payer");
+        customer.setPassword("password");
+        customer.setName("Pay");
+        customer.setSurname("Er");
+        entityManager.persist(customer);
+
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setIsPaid(false);
+        entityManager.persist(loan);
+        loanId = loan.getId();
+
+        // first two installments paid, six open
+        for (int month = 0; month < 8; month++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setLoan(loan);
+            installment.setAmount(new BigDecimal("100.00"));
+            installment.setDueDate(FIRST_DUE_DATE.plusMonths(month));
+            installment.setIsPaid(month < 2);
+            entityManager.persist(installment);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should return only unpaid installments inside the window, oldest first")
+    public void testFindPayableInstallments() {
+        // Act
+        List<LoanInstallment> payable = installmentRepository.findPayableInstallments(loanId, FIRST_DUE_DATE.plusMonths(4));
+
+        // Assert
+        assertThat(payable).extracting(LoanInstallment::getDueDate).containsExactly(
+                FIRST_DUE_DATE.plusMonths(2), FIRST_DUE_DATE.plusMonths(3), FIRST_DUE_DATE.plusMonths(4));
+    }
+
+    @Test
+    @DisplayName("Should count the unpaid installments of a loan")
+    public void testCountUnpaid() {
+        assertThat(installmentRepository.countByLoan_IdAndIsPaidFalse(loanId)).isEqualTo(6);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ekiziltan.loan.repository;
+
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.entity.Loan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+public class LoanRepositoryTest {
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("Should return only the owner id of a loan")
+    public void testFindCustomerIdById() {
+        // Arrange
+        Customer customer = new Customer();
+        customer.setUsername("owner");
+        customer.setPassword("password");
+        customer.setName("Own");
+        customer.setSurname("Er");
+        entityManager.persist(customer);
+
+        Loan loan = new Loan();
+        loan.setCustomer(customer);
+        loan.setIsPaid(false);
+        entityManager.persist(loan);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act & Assert
+        assertThat(loanRepository.findCustomerIdById(loan.getId())).contains(customer.getId());
+        assertThat(loanRepository.findCustomerIdById(-1L)).isEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.ekiziltan.loan.service;
+
+import com.ekiziltan.loan.dto.BulkLoanCreationResponse;
+import com.ekiziltan.loan.dto.BulkLoanItemStatus;
+import com.ekiziltan.loan.dto.CreateLoanRequest;
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import com.ekiziltan.loan.repository.LoanInstallmentRepository;
+import com.ekiziltan.loan.repository.LoanRepository;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.service.amortization.AmortizationEngine;
+import com.ekiziltan.loan.service.amortization.AnnuityFactorTable;
+import com.ekiziltan.loan.service.cache.LoanCacheEvictor;
+import com.ekiziltan.loan.service.cache.LoanOwnerCache;
+import com.ekiziltan.loan.service.credit.CreditLedger;
+import com.ekiziltan.loan.service.lock.InstallmentPaymentLockService;
+import com.ekiziltan.loan.service.lock.LoanApplicationLockService;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BulkLoanCreationServiceImplTest {
+
+    @Mock
+    private LoanApplicationLockService loanApplicationLockService;
+    @Mock
+    private InstallmentPaymentLockService installmentPaymentLockService;
+    @Mock
+    private CustomerRepository customerRepository;
+    @Mock
+    private LoanRepository loanRepository;
+    @Mock
+    private LoanInstallmentRepository installmentRepository;
+    @Spy
+    private LoanFactory loanFactory = new LoanFactory(new AmortizationEngine(new AnnuityFactorTable()));
+    @Mock
+    private LoanCacheEvictor loanCacheEvictor;
+    @Mock
+    private LoanOwnerCache loanOwnerCache;
+    @Mock
+    private CreditLedger creditLedger;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private EntityManager entityManager;
+    @Captor
+    private ArgumentCaptor<List<LoanInstallment>> installmentsCaptor;
+    @InjectMocks
+    private BulkLoanCreationServiceImpl bulkLoanCreationService;
+
+    private final AtomicLong loanIds = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(bulkLoanCreationService, "chunkSize", 2);
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+        when(customerRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> customer(invocation.getArgument(0)));
+        when(loanRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Loan> loans = invocation.getArgument(0);
+            loans.forEach(loan -> loan.setId(loanIds.incrementAndGet()));
+            return loans;
+        });
+    }
+
+    @Test
+    void testExecuteReportsResultPerItem() {
+        doNothing()
+                .doThrow(new ApiException("Customer exceeds credit limit!", HttpStatus.BAD_REQUEST))
+                .when(creditLedger).reserve(eq(1L), any());
+
+        BulkLoanCreationResponse response = bulkLoanCreationService.execute(List.of(
+                request(1L, "600"),
+                request(1L, "0"),
+                request(1L, "600")));
+
+        assertEquals(3, response.getRequested());
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getRejected());
+        assertEquals(BulkLoanItemStatus.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(1L, response.getResults().get(0).getLoanId());
+        assertEquals("Principal amount must be greater than 0", response.getResults().get(1).getMessage());
+        assertEquals("Customer exceeds credit limit!", response.getResults().get(2).getMessage());
+        verify(creditLedger, times(2)).reserve(1L, new BigDecimal("600"));
+        verify(customerRepository, never()).saveAll(any());
+        verify(customerRepository, never()).findAllById(any());
+
+        verify(installmentRepository).saveAll(installmentsCaptor.capture());
+        assertEquals(12, installmentsCaptor.getValue().size());
+        verify(loanApplicationLockService).createLock(1L);
+        verify(loanApplicationLockService).markLockAsDone(1L);
+        verify(loanCacheEvictor).evictCustomer(1L);
+        verify(loanOwnerCache).register(1L, 1L);
+    }
+
+    @Test
+    void testExecuteRejectsUnknownCustomer() {
+        doThrow(new ApiException(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + 7L, HttpStatus.NOT_FOUND))
+                .when(creditLedger).reserve(eq(7L), any());
+
+        BulkLoanCreationResponse response = bulkLoanCreationService.execute(List.of(request(7L, "100")));
+
+        assertEquals(BulkLoanItemStatus.REJECTED, response.getResults().get(0).getStatus());
+        assertEquals(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + 7L, response.getResults().get(0).getMessage());
+        verify(loanRepository).saveAll(List.of());
+        verify(loanApplicationLockService).markLockAsDone(7L);
+    }
+
+    @Test
+    void testExecuteMarksWholeChunkFailedOnPersistenceError() {
+        doThrow(new RuntimeException("db down")).when(entityManager).flush();
+
+        BulkLoanCreationResponse response = bulkLoanCreationService.execute(List.of(request(1L, "100"), request(2L, "100")));
+
+        assertEquals(2, response.getFailed());
+        assertNull(response.getResults().get(0).getLoanId());
+        assertEquals(LoanServiceConstants.ERROR_BULK_CHUNK_FAILED, response.getResults().get(0).getMessage());
+    }
+
+    private static CreateLoanRequest request(Long customerId, String principal) {
+        CreateLoanRequest request = new CreateLoanRequest();
+        request.setCustomerId(customerId);
+        request.setPrincipalAmount(new BigDecimal(principal));
+        request.setNumberOfInstallment(12);
+        request.setInterestRate(0.2);
+        return request;
+    }
+
+    private static Customer customer(Long id) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        return customer;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ekiziltan.loan.service;
+
+import com.ekiziltan.loan.dto.ListInstallmentRequest;
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.repository.LoanInstallmentRepository;
+import com.ekiziltan.loan.service.cache.InstallmentScheduleCache;
+import com.ekiziltan.loan.service.cache.LoanCacheKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InstallmentListServiceImplTest {
+
+    @Mock
+    private LoanInstallmentRepository installmentRepository;
+
+    private InstallmentScheduleCache installmentScheduleCache;
+    private InstallmentListServiceImpl installmentListService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        installmentScheduleCache = new InstallmentScheduleCache(
+                new ConcurrentMapCacheManager(LoanCacheKeys.INSTALLMENTS_CACHE), installmentRepository);
+        installmentListService = new InstallmentListServiceImpl(installmentScheduleCache);
+    }
+
+    @Test
+    void testPagesAreSlicedFromOneCachedSchedule() {
+        List<LoanInstallment> schedule = schedule(7L, 5);
+        when(installmentRepository.findByLoan_IdOrderByDueDateAsc(7L)).thenReturn(schedule);
+
+        List<LoanInstallmentDTO> firstPage = installmentListService.execute(request(7L, 0, 2));
+        List<LoanInstallmentDTO> secondPage = installmentListService.execute(request(7L, 1, 2));
+        List<LoanInstallmentDTO> lastPage = installmentListService.execute(request(7L, 2, 2));
+        List<LoanInstallmentDTO> pastTheEnd = installmentListService.execute(request(7L, 3, 2));
+
+        assertEquals(List.of(1L, 2L), ids(firstPage));
+        assertEquals(List.of(3L, 4L), ids(secondPage));
+        assertEquals(List.of(5L), ids(lastPage));
+        assertTrue(pastTheEnd.isEmpty());
+        verify(installmentRepository, times(1)).findByLoan_IdOrderByDueDateAsc(7L);
+    }
+
+    @Test
+    void testPaymentsArePatchedIntoCachedScheduleWithoutReload() {
+        List<LoanInstallment> schedule = schedule(7L, 3);
+        when(installmentRepository.findByLoan_IdOrderByDueDateAsc(7L)).thenReturn(schedule);
+        installmentListService.execute(request(7L, 0, 3));
+
+        LoanInstallment paid = schedule(7L, 1).get(0);
+        paid.setIsPaid(true);
+        installmentScheduleCache.applyPayments(7L, List.of(paid));
+
+        List<LoanInstallmentDTO> page = installmentListService.execute(request(7L, 0, 3));
+        assertTrue(page.get(0).getIsPaid());
+        assertFalse(page.get(1).getIsPaid());
+        assertEquals(3, page.size());
+        verify(installmentRepository, times(1)).findByLoan_IdOrderByDueDateAsc(7L);
+    }
+
+    private static ListInstallmentRequest request(Long loanId, int page, int size) {
+        return ListInstallmentRequest.builder().loanId(loanId).pageable(PageRequest.of(page, size)).build();
+    }
+
+    private static List<LoanInstallment> schedule(Long loanId, int count) {
+        Loan loan = new Loan();
+        loan.setId(loanId);
+        List<LoanInstallment> installments = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setId((long) i);
+            installment.setLoan(loan);
+            installment.setAmount(new BigDecimal("100.00"));
+            installment.setIsPaid(false);
+            installment.setDueDate(LocalDate.of(2025, i, 1));
+            installments.add(installment);
+        }
+        return installments;
+    }
+
+    private static List<Long> ids(List<LoanInstallmentDTO> installments) {
+        return installments.stream().map(LoanInstallmentDTO::getId).toList();
+    }
+}
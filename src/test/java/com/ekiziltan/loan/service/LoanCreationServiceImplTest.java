@@ -9,6 +9,11 @@ import com.ekiziltan.loan.handlers.exceptions.ApiException;
 import com.ekiziltan.loan.repository.CustomerRepository;
 import com.ekiziltan.loan.repository.LoanInstallmentRepository;
 import com.ekiziltan.loan.repository.LoanRepository;
+import com.ekiziltan.loan.service.amortization.AmortizationEngine;
+import com.ekiziltan.loan.service.amortization.AnnuityFactorTable;
+import com.ekiziltan.loan.service.cache.LoanCacheEvictor;
+import com.ekiziltan.loan.service.cache.LoanOwnerCache;
+import com.ekiziltan.loan.service.credit.CreditLedger;
 import com.ekiziltan.loan.service.lock.InstallmentPaymentLockService;
 import com.ekiziltan.loan.service.lock.LoanApplicationLockService;
 import com.ekiziltan.loan.utils.SecurityHelper;
@@ -19,7 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.http.HttpStatus;
 import java.math.BigDecimal;
-import java.util.Optional;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +45,14 @@ class LoanCreationServiceImplTest {
 
     @Mock
     private SecurityHelper securityHelper;
+    @Spy
+    private LoanFactory loanFactory = new LoanFactory(new AmortizationEngine(new AnnuityFactorTable()));
+    @Mock
+    private LoanCacheEvictor loanCacheEvictor;
+    @Mock
+    private LoanOwnerCache loanOwnerCache;
+    @Mock
+    private CreditLedger creditLedger;
     @InjectMocks
     private LoanCreationServiceImpl loanCreationService;
 
@@ -63,7 +76,7 @@ class LoanCreationServiceImplTest {
 
         doNothing().when(installmentPaymentLockService).checkLockExists(1L);
 
-        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.getReferenceById(1L)).thenReturn(customer);
         when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> {
             Loan loan = invocation.getArgument(0);
             loan.setId(123L);
@@ -75,9 +88,16 @@ class LoanCreationServiceImplTest {
 
         verify(lockService).createLock(1L);
         verify(lockService).markLockAsDone(1L);
-        verify(customerRepository).save(customer);
+        verify(loanCacheEvictor).evictCustomer(1L);
+        verify(loanOwnerCache).register(123L, 1L);
+        verify(creditLedger).reserve(1L, new BigDecimal("1000"));
+        verify(customerRepository, never()).findById(any());
+        verify(customerRepository, never()).save(any());
         verify(loanRepository).save(any(Loan.class));
-        verify(installmentRepository, times(request.getNumberOfInstallment())).save(any(LoanInstallment.class));
+        ArgumentCaptor<List<LoanInstallment>> installmentsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(installmentRepository).saveAll(installmentsCaptor.capture());
+        verify(installmentRepository, never()).save(any(LoanInstallment.class));
+        assertEquals(request.getNumberOfInstallment(), installmentsCaptor.getValue().size());
         assertNotNull(result);
         assertEquals(123L, result.getId());
     }
@@ -92,11 +112,13 @@ class LoanCreationServiceImplTest {
 
         doNothing().when(installmentPaymentLockService).checkLockExists(1L);
         when(securityHelper.getCustomerIdFromSecurityContext()).thenReturn(1L);
-        when(customerRepository.findById(2L)).thenReturn(Optional.empty());
+        doThrow(new ApiException(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + 2L, HttpStatus.NOT_FOUND))
+                .when(creditLedger).reserve(eq(2L), any());
 
         ApiException ex = assertThrows(ApiException.class, () -> loanCreationService.execute(request));
         verify(lockService).createLock(2L);
         verify(lockService).markLockAsFailed(2L);
+        verify(loanRepository, never()).save(any());
 
         assertTrue(ex.getMessage().contains(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + "2"));
     }
@@ -109,14 +131,11 @@ class LoanCreationServiceImplTest {
         request.setNumberOfInstallment(12);
         request.setInterestRate(0.2);
 
-        Customer customer = new Customer();
-        customer.setId(3L);
-        customer.setUsedCreditLimit(new BigDecimal("5000"));
-        customer.setCreditLimit(new BigDecimal("10000"));
         doNothing().when(installmentPaymentLockService).checkLockExists(1L);
         when(securityHelper.getCustomerIdFromSecurityContext()).thenReturn(1L);
 
-        when(customerRepository.findById(3L)).thenReturn(Optional.of(customer));
+        doThrow(new ApiException("Customer exceeds credit limit!", HttpStatus.BAD_REQUEST))
+                .when(creditLedger).reserve(3L, new BigDecimal("10000"));
 
         ApiException ex = assertThrows(ApiException.class, () -> loanCreationService.execute(request));
         verify(lockService).createLock(3L);
@@ -135,19 +154,13 @@ class LoanCreationServiceImplTest {
 
         doNothing().when(installmentPaymentLockService).checkLockExists(1L);
         when(securityHelper.getCustomerIdFromSecurityContext()).thenReturn(1L);
-        Customer customer = new Customer();
-        customer.setId(4L);
-        customer.setUsedCreditLimit(BigDecimal.ZERO);
-        customer.setCreditLimit(new BigDecimal("5000"));
-
-        when(customerRepository.findById(4L)).thenReturn(Optional.of(customer));
-
         doThrow(new ApiException("Principal amount must be greater than 0", HttpStatus.BAD_REQUEST))
                 .when(lockService).markLockAsFailed(4L);
 
         assertThrows(ApiException.class, () -> loanCreationService.execute(request));
         verify(lockService).createLock(4L);
         verify(lockService).markLockAsFailed(4L);
+        verify(creditLedger, never()).reserve(any(), any());
     }
 
     @Test
@@ -0,0 +1,56 @@
+package com.ekiziltan.loan.service.amortization;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizationEngineTest {
+
+    private final AmortizationEngine engine = new AmortizationEngine(new AnnuityFactorTable());
+
+    @Test
+    void testScheduleMatchesAnnuityPayment() {
+        AmortizationSchedule schedule = engine.schedule(new BigDecimal("1000.00"), 0.2, 12);
+
+        // 1000 at 20% / 12 over 12 months: 92.63 per month
+        assertEquals(12, schedule.size());
+        assertEquals(9263, schedule.amount(0));
+        assertEquals(1667, schedule.interest(0));
+        assertEquals(7596, schedule.principal(0));
+        assertEquals(new BigDecimal("0.0167"), schedule.monthlyInterestRate());
+    }
+
+    @Test
+    void testLastRowAbsorbsRoundingResidual() {
+        for (int count : new int[]{6, 9, 12, 24}) {
+            AmortizationSchedule schedule = engine.schedule(new BigDecimal("12345.67"), 0.37, count);
+
+            long principalSum = 0;
+            for (int i = 0; i < schedule.size(); i++) {
+                assertEquals(schedule.amount(i), schedule.principal(i) + schedule.interest(i));
+                if (i < schedule.size() - 1) {
+                    assertEquals(schedule.amount(0), schedule.amount(i));
+                }
+                principalSum += schedule.principal(i);
+            }
+            assertEquals(1234567, principalSum);
+            assertTrue(Math.abs(schedule.amount(count - 1) - schedule.amount(0)) <= count);
+        }
+    }
+
+    @Test
+    void testZeroRateSplitsPrincipalEvenly() {
+        AmortizationSchedule schedule = engine.schedule(100, 0, 6);
+
+        assertEquals(17, schedule.amount(0));
+        assertEquals(15, schedule.amount(5));
+        assertEquals(0, schedule.interest(5));
+    }
+
+    @Test
+    void testOverflowingPrincipalFailsInsteadOfWrapping() {
+        assertThrows(ArithmeticException.class, () -> engine.schedule(Long.MAX_VALUE / 100, 500_000, 12));
+    }
+}
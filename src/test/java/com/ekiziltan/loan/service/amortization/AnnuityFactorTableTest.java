@@ -0,0 +1,26 @@
+package com.ekiziltan.loan.service.amortization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnuityFactorTableTest {
+
+    private final AnnuityFactorTable table = new AnnuityFactorTable();
+
+    @Test
+    void testTableMatchesComputedFactors() {
+        for (int count : new int[]{6, 9, 12, 24}) {
+            for (long micros = 100_000; micros <= 500_000; micros += 100) {
+                assertEquals(AnnuityFactorTable.compute(micros, count), table.factor(micros, count));
+            }
+        }
+    }
+
+    @Test
+    void testOffGridRatesAndCountsAreComputed() {
+        assertEquals(AnnuityFactorTable.compute(123_456, 12), table.factor(123_456, 12));
+        assertEquals(AnnuityFactorTable.compute(600_000, 12), table.factor(600_000, 12));
+        assertEquals(AnnuityFactorTable.compute(200_000, 36), table.factor(200_000, 36));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.repository.LoanInstallmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InstallmentScheduleCacheTest {
+
+    private final LoanInstallmentRepository installmentRepository = mock(LoanInstallmentRepository.class);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(LoanCacheKeys.INSTALLMENTS_CACHE);
+    private final InstallmentScheduleCache scheduleCache = new InstallmentScheduleCache(cacheManager, installmentRepository);
+
+    @Test
+    void testScheduleIsLoadedOnceThenServedFromCache() {
+        when(installmentRepository.findByLoan_IdOrderByDueDateAsc(5L)).thenReturn(List.of(installment(1L, false)));
+
+        scheduleCache.getSchedule(5L);
+        List<LoanInstallmentDTO> schedule = scheduleCache.getSchedule(5L);
+
+        assertEquals(1, schedule.size());
+        verify(installmentRepository, times(1)).findByLoan_IdOrderByDueDateAsc(5L);
+    }
+
+    @Test
+    void testEmptyScheduleIsNotCached() {
+        when(installmentRepository.findByLoan_IdOrderByDueDateAsc(5L))
+                .thenReturn(List.of(), List.of(installment(1L, false)));
+
+        assertTrue(scheduleCache.getSchedule(5L).isEmpty());
+        assertEquals(1, scheduleCache.getSchedule(5L).size());
+    }
+
+    @Test
+    void testPaymentOnMissPutsCommittedSchedule() {
+        when(installmentRepository.findByLoan_IdOrderByDueDateAsc(5L)).thenReturn(List.of(installment(1L, true)));
+
+        scheduleCache.applyPayments(5L, List.of(installment(1L, true)));
+        List<LoanInstallmentDTO> schedule = scheduleCache.getSchedule(5L);
+
+        assertTrue(schedule.get(0).getIsPaid());
+        verify(installmentRepository, times(1)).findByLoan_IdOrderByDueDateAsc(5L);
+    }
+
+    @Test
+    void testPaymentPatchesCachedSchedule() {
+        when(installmentRepository.findByLoan_IdOrderByDueDateAsc(5L))
+                .thenReturn(List.of(installment(1L, false), installment(2L, false)));
+        scheduleCache.getSchedule(5L);
+
+        scheduleCache.applyPayments(5L, List.of(installment(1L, true)));
+        List<LoanInstallmentDTO> schedule = scheduleCache.getSchedule(5L);
+
+        assertTrue(schedule.get(0).getIsPaid());
+        assertFalse(schedule.get(1).getIsPaid());
+        verify(installmentRepository, times(1)).findByLoan_IdOrderByDueDateAsc(5L);
+    }
+
+    private static LoanInstallment installment(Long id, boolean paid) {
+        Loan loan = new Loan();
+        loan.setId(5L);
+        LoanInstallment installment = new LoanInstallment();
+        installment.setId(id);
+        installment.setLoan(loan);
+        installment.setAmount(new BigDecimal("100.00"));
+        installment.setPaidAmount(paid ? new BigDecimal("100.00") : BigDecimal.ZERO);
+        installment.setDueDate(LocalDate.of(2026, 1, 1).plusMonths(id));
+        installment.setIsPaid(paid);
+        return installment;
+    }
+}
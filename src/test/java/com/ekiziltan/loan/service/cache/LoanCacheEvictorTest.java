@@ -0,0 +1,73 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.dto.LoanListForCustomerRequest;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoanCacheEvictorTest {
+
+    @Mock
+    private HazelcastInstance hazelcastInstance;
+    @Mock
+    private IMap<Object, Object> loansCache;
+    @InjectMocks
+    private LoanCacheEvictor loanCacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(hazelcastInstance.getMap(LoanCacheKeys.LOANS_CACHE)).thenReturn(loansCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testCustomerKeysShareTheEvictedPrefix() {
+        String key = new LoanCacheKeys().customerLoans(LoanListForCustomerRequest.builder()
+                .customerId(1L).pageable(PageRequest.of(2, 10)).isPaid(true).build());
+
+        assertTrue(key.startsWith(LoanCacheKeys.customerPrefix(1L)));
+        assertFalse(key.startsWith(LoanCacheKeys.customerPrefix(12L)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEvictsOnlyTheCustomersEntries() {
+        loanCacheEvictor.evictCustomer(1L);
+
+        verify(loansCache).removeAll(Predicates.like("__key", "customer:1:%"));
+        verify(loansCache, never()).clear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEvictionWaitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        loanCacheEvictor.evictCustomer(1L);
+        verify(loansCache, never()).removeAll(any(Predicate.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(loansCache).removeAll(any(Predicate.class));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ekiziltan.loan.service.cache;
+
+import com.ekiziltan.loan.repository.LoanRepository;
+import com.ekiziltan.loan.service.LoanOwnerSecurityServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoanOwnerCacheTest {
+
+    private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final LoanOwnerCache loanOwnerCache =
+            new LoanOwnerCache(new ConcurrentMapCacheManager(LoanCacheKeys.LOAN_OWNERS_CACHE), loanRepository);
+    private final LoanOwnerSecurityServiceImpl securityService = new LoanOwnerSecurityServiceImpl(loanOwnerCache);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testOwnerIsQueriedOnceThenServedFromCache() {
+        when(loanRepository.findCustomerIdById(5L)).thenReturn(Optional.of(1L));
+
+        assertTrue(securityService.isLoanOwner(5L, 1L));
+        assertFalse(securityService.isLoanOwner(5L, 2L));
+
+        verify(loanRepository, times(1)).findCustomerIdById(5L);
+        verify(loanRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUnknownLoanIsNotCached() {
+        when(loanRepository.findCustomerIdById(5L)).thenReturn(Optional.empty(), Optional.of(1L));
+
+        assertFalse(securityService.isLoanOwner(5L, 1L));
+        assertTrue(securityService.isLoanOwner(5L, 1L));
+    }
+
+    @Test
+    void testRegisteredLoanNeedsNoQueryAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        loanOwnerCache.register(5L, 1L);
+
+        when(loanRepository.findCustomerIdById(5L)).thenReturn(Optional.empty());
+        assertFalse(securityService.isLoanOwner(5L, 1L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(securityService.isLoanOwner(5L, 1L));
+        verify(loanRepository, times(1)).findCustomerIdById(5L);
+    }
+}
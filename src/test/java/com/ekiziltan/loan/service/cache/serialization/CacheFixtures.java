@@ -0,0 +1,72 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.ekiziltan.loan.dto.LoanDTO;
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.service.cache.InstallmentSchedule;
+import com.hazelcast.config.Config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cached values and a standalone member config shared by the serializer tests and benchmarks.
+ */
+public final class CacheFixtures {
+
+    private CacheFixtures() {
+    }
+
+    public static Config standaloneConfig() {
+        Config config = new Config();
+        config.setClusterName("cache-serializers-test");
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+        CacheSerializers.register(config.getSerializationConfig());
+        return config;
+    }
+
+    public static InstallmentSchedule schedule(Long loanId, int count) {
+        List<LoanInstallmentDTO> installments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LoanInstallmentDTO dto = new LoanInstallmentDTO();
+            dto.setId(1000L + i);
+            dto.setLoanId(loanId);
+            dto.setAmount(new BigDecimal("466.08"));
+            dto.setPaidAmount(BigDecimal.ZERO);
+            dto.setDueDate(LocalDate.of(2025, 1, 1).plusMonths(i));
+            dto.setIsPaid(false);
+            dto.setPrincipalPortion(new BigDecimal("449.41"));
+            dto.setInterestPortion(new BigDecimal("16.67"));
+            dto.setInstallmentInterestRate(new BigDecimal("0.0167"));
+            installments.add(dto);
+        }
+        return new InstallmentSchedule(loanId, installments);
+    }
+
+    public static LoanDTO loan(Long id) {
+        LoanDTO dto = new LoanDTO();
+        dto.setId(id);
+        dto.setCustomerId(1L);
+        dto.setLoanAmount(new BigDecimal("12000.00"));
+        dto.setPrincipalAmount(new BigDecimal("10000.00"));
+        dto.setInterestAmount(new BigDecimal("2000.00"));
+        dto.setInterestRate(0.2);
+        dto.setNumberOfInstallment(12);
+        dto.setCreateDate(LocalDate.of(2025, 1, 1));
+        dto.setIsPaid(false);
+        return dto;
+    }
+
+    public static byte[] javaSerialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+}
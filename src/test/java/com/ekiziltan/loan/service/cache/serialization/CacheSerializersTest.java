@@ -0,0 +1,74 @@
+package com.ekiziltan.loan.service.cache.serialization;
+
+import com.ekiziltan.loan.dto.LoanDTO;
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.service.cache.InstallmentSchedule;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheSerializersTest {
+
+    private static HazelcastInstance hazelcastInstance;
+    private static SerializationService serializationService;
+
+    @BeforeAll
+    static void startMember() {
+        hazelcastInstance = Hazelcast.newHazelcastInstance(CacheFixtures.standaloneConfig());
+        serializationService = ((SerializationServiceSupport) hazelcastInstance).getSerializationService();
+    }
+
+    @AfterAll
+    static void stopMember() {
+        hazelcastInstance.shutdown();
+    }
+
+    @Test
+    void testScheduleRoundTripRestoresLoanId() {
+        InstallmentSchedule schedule = CacheFixtures.schedule(7L, 24);
+
+        InstallmentSchedule copy = serializationService.toObject(serializationService.toData(schedule));
+
+        assertEquals(7L, copy.getLoanId());
+        assertEquals(schedule.getInstallments(), copy.getInstallments());
+    }
+
+    @Test
+    void testStandaloneInstallmentRoundTripKeepsLoanId() {
+        LoanInstallmentDTO installment = CacheFixtures.schedule(7L, 1).getInstallments().get(0);
+
+        LoanInstallmentDTO copy = serializationService.toObject(serializationService.toData(installment));
+
+        assertEquals(7L, copy.getLoanId());
+        assertEquals(installment, copy);
+    }
+
+    @Test
+    void testLoanListRoundTrip() {
+        ArrayList<LoanDTO> loans = new ArrayList<>(List.of(CacheFixtures.loan(1L), CacheFixtures.loan(2L)));
+
+        List<LoanDTO> copy = serializationService.toObject(serializationService.toData(loans));
+
+        assertEquals(loans, copy);
+    }
+
+    @Test
+    void testCompactScheduleIsSmallerThanJavaSerialization() throws IOException {
+        InstallmentSchedule schedule = CacheFixtures.schedule(7L, 24);
+
+        int compactSize = serializationService.toData(schedule).totalSize();
+        int javaSize = CacheFixtures.javaSerialize(schedule).length;
+
+        assertTrue(compactSize * 2 < javaSize, "compact " + compactSize + " bytes vs java " + javaSize + " bytes");
+    }
+}
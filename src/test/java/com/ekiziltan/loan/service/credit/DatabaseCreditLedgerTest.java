@@ -0,0 +1,61 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import com.ekiziltan.loan.utils.constants.LoanServiceConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabaseCreditLedgerTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+    @InjectMocks
+    private DatabaseCreditLedger creditLedger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testReserveSucceedsWithoutReadingCustomer() {
+        when(customerRepository.reserveCredit(1L, BigDecimal.TEN)).thenReturn(1);
+
+        creditLedger.reserve(1L, BigDecimal.TEN);
+
+        verify(customerRepository, never()).existsById(any());
+        verify(customerRepository, never()).findById(any());
+    }
+
+    @Test
+    void testReserveRejectsWhenLimitExceeded() {
+        when(customerRepository.reserveCredit(1L, BigDecimal.TEN)).thenReturn(0);
+        when(customerRepository.existsById(1L)).thenReturn(true);
+
+        ApiException ex = assertThrows(ApiException.class, () -> creditLedger.reserve(1L, BigDecimal.TEN));
+
+        assertEquals("Customer exceeds credit limit!", ex.getMessage());
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getHttpStatus());
+    }
+
+    @Test
+    void testReserveRejectsUnknownCustomer() {
+        when(customerRepository.reserveCredit(2L, BigDecimal.TEN)).thenReturn(0);
+        when(customerRepository.existsById(2L)).thenReturn(false);
+
+        ApiException ex = assertThrows(ApiException.class, () -> creditLedger.reserve(2L, BigDecimal.TEN));
+
+        assertEquals(LoanServiceConstants.ERROR_CUSTOMER_NOT_FOUND + 2L, ex.getMessage());
+        assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+    }
+}
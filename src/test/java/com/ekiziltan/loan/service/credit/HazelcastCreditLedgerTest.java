@@ -0,0 +1,125 @@
+package com.ekiziltan.loan.service.credit;
+
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.repository.CustomerRepository;
+import com.ekiziltan.loan.service.cache.serialization.CacheFixtures;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HazelcastCreditLedgerTest {
+
+    private static final CustomerRepository customerRepository = mock(CustomerRepository.class);
+    private static HazelcastInstance hazelcastInstance;
+
+    private HazelcastCreditLedger creditLedger;
+
+    @BeforeAll
+    static void startMember() {
+        Config config = CacheFixtures.standaloneConfig();
+        // write-through keeps the test deterministic; production writes behind
+        MapConfig exposure = new MapConfig(HazelcastCreditLedger.CREDIT_EXPOSURE_MAP);
+        exposure.setMapStoreConfig(new MapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(new CreditExposureMapStore(repositoryProvider()))
+                .setWriteDelaySeconds(0));
+        config.addMapConfig(exposure);
+        hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+    }
+
+    @AfterAll
+    static void stopMember() {
+        hazelcastInstance.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        reset(customerRepository);
+        hazelcastInstance.getMap(HazelcastCreditLedger.CREDIT_EXPOSURE_MAP).evictAll();
+        creditLedger = new HazelcastCreditLedger(hazelcastInstance);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testReserveLoadsOnceAndChecksLimitInMemory() {
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer(1L, "1000", "300")));
+
+        creditLedger.reserve(1L, new BigDecimal("700"));
+        ApiException ex = assertThrows(ApiException.class, () -> creditLedger.reserve(1L, new BigDecimal("0.01")));
+
+        assertEquals("Customer exceeds credit limit!", ex.getMessage());
+        verify(customerRepository, times(1)).findById(1L);
+        verify(customerRepository).updateUsedCredit(1L, new BigDecimal("1000"));
+    }
+
+    @Test
+    void testReserveRejectsUnknownCustomer() {
+        when(customerRepository.findById(2L)).thenReturn(Optional.empty());
+
+        ApiException ex = assertThrows(ApiException.class, () -> creditLedger.reserve(2L, BigDecimal.TEN));
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+        assertFalse(hazelcastInstance.getMap(HazelcastCreditLedger.CREDIT_EXPOSURE_MAP).containsKey(2L));
+    }
+
+    @Test
+    void testReservationIsGivenBackOnRollbackAndReleaseWaitsForCommit() {
+        when(customerRepository.findById(3L)).thenReturn(Optional.of(customer(3L, "1000", "500")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        creditLedger.reserve(3L, new BigDecimal("200"));
+        creditLedger.release(3L, new BigDecimal("600"));
+        assertEquals(new BigDecimal("700"), usedCredit(3L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(new BigDecimal("500"), usedCredit(3L));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(BigDecimal.ZERO, usedCredit(3L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<CustomerRepository> repositoryProvider() {
+        ObjectProvider<CustomerRepository> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(customerRepository);
+        return provider;
+    }
+
+    private static BigDecimal usedCredit(Long customerId) {
+        return hazelcastInstance.<Long, CreditExposure>getMap(HazelcastCreditLedger.CREDIT_EXPOSURE_MAP)
+                .get(customerId).getUsedCredit();
+    }
+
+    private static Customer customer(Long id, String creditLimit, String usedCreditLimit) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setCreditLimit(new BigDecimal(creditLimit));
+        customer.setUsedCreditLimit(new BigDecimal(usedCreditLimit));
+        return customer;
+    }
+}
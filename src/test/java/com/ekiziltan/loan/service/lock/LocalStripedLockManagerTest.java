@@ -0,0 +1,80 @@
+package com.ekiziltan.loan.service.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalStripedLockManagerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final LocalStripedLockManager lockManager = new LocalStripedLockManager(4, 1_000, clock::get);
+
+    @Test
+    void testExclusiveLockIsNotReentrant() {
+        assertTrue(lockManager.tryLock("loan:1"));
+        assertFalse(lockManager.tryLock("loan:1"));
+        assertTrue(lockManager.tryLock("loan:2"));
+
+        lockManager.unlock("loan:1");
+
+        assertFalse(lockManager.isLocked("loan:1"));
+        assertTrue(lockManager.tryLock("loan:1"));
+    }
+
+    @Test
+    void testSharedHoldsAreCounted() {
+        assertTrue(lockManager.tryLockShared("customer:1"));
+        assertTrue(lockManager.tryLockShared("customer:1"));
+        assertFalse(lockManager.tryLock("customer:1"));
+
+        lockManager.unlock("customer:1");
+        assertTrue(lockManager.isLocked("customer:1"));
+
+        lockManager.unlock("customer:1");
+        assertFalse(lockManager.isLocked("customer:1"));
+    }
+
+    @Test
+    void testSharedHoldIsRefusedWhileExclusivelyLocked() {
+        assertTrue(lockManager.tryLock("customer:1"));
+        assertFalse(lockManager.tryLockShared("customer:1"));
+    }
+
+    @Test
+    void testHoldsExpireAfterLease() {
+        assertTrue(lockManager.tryLock("loan:1"));
+        assertTrue(lockManager.tryLockShared("customer:1"));
+
+        clock.set(999);
+        assertTrue(lockManager.isLocked("loan:1"));
+
+        clock.set(1_000);
+        assertFalse(lockManager.isLocked("loan:1"));
+        assertFalse(lockManager.isLocked("customer:1"));
+        assertTrue(lockManager.tryLock("loan:1"));
+    }
+
+    @Test
+    void testOnlyOneConcurrentCallerWins() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger winners = new AtomicInteger();
+        for (int i = 0; i < 100; i++) {
+            executor.submit(() -> {
+                if (lockManager.tryLock("loan:42")) {
+                    winners.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1, winners.get());
+    }
+}
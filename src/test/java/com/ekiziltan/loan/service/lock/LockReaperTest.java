@@ -0,0 +1,80 @@
+package com.ekiziltan.loan.service.lock;
+
+import com.ekiziltan.loan.entity.LockStatus;
+import com.ekiziltan.loan.repository.lock.InstallmentPaymentLockRepository;
+import com.ekiziltan.loan.repository.lock.LoanApplicationLockRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LockReaperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 10, 12, 0);
+    private static final List<LockStatus> FINISHED = List.of(LockStatus.DONE, LockStatus.FAILED);
+
+    private final LoanApplicationLockRepository loanApplicationLockRepository = mock(LoanApplicationLockRepository.class);
+    private final InstallmentPaymentLockRepository installmentPaymentLockRepository = mock(InstallmentPaymentLockRepository.class);
+
+    private final LockReaper lockReaper = new LockReaper(loanApplicationLockRepository, installmentPaymentLockRepository,
+            60_000, 7, 2, 3, () -> NOW);
+
+    @Test
+    void testLocksInProgressPastTheLeaseAreExpired() {
+        when(loanApplicationLockRepository.updateStatusCreatedBefore(any(), any(), any(), any())).thenReturn(2);
+        when(installmentPaymentLockRepository.updateStatusCreatedBefore(any(), any(), any(), any())).thenReturn(1);
+
+        assertEquals(3, lockReaper.expireStaleLocks(NOW));
+
+        verify(loanApplicationLockRepository).updateStatusCreatedBefore(
+                LockStatus.IN_PROGRESS, LockStatus.FAILED, NOW.minusMinutes(1), NOW);
+        verify(installmentPaymentLockRepository).updateStatusCreatedBefore(
+                LockStatus.IN_PROGRESS, LockStatus.FAILED, NOW.minusMinutes(1), NOW);
+    }
+
+    @Test
+    void testFinishedLocksPastRetentionArePurgedInBatches() {
+        when(loanApplicationLockRepository.findIdsByStatusInCreatedBefore(eq(FINISHED), eq(NOW.minusDays(7)), any()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(installmentPaymentLockRepository.findIdsByStatusInCreatedBefore(any(), any(), any()))
+                .thenReturn(List.of());
+
+        assertEquals(3, lockReaper.purgeFinishedLocks(NOW));
+
+        verify(loanApplicationLockRepository, times(2))
+                .findIdsByStatusInCreatedBefore(FINISHED, NOW.minusDays(7), PageRequest.of(0, 2));
+        verify(loanApplicationLockRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(loanApplicationLockRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(installmentPaymentLockRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void testPurgeStopsAfterMaxBatchesPerRun() {
+        when(installmentPaymentLockRepository.findIdsByStatusInCreatedBefore(any(), any(), any()))
+                .thenReturn(List.of(1L, 2L));
+        when(loanApplicationLockRepository.findIdsByStatusInCreatedBefore(any(), any(), any()))
+                .thenReturn(List.of());
+
+        assertEquals(6, lockReaper.purgeFinishedLocks(NOW));
+
+        verify(installmentPaymentLockRepository, times(3)).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void testReapUsesTheClock() {
+        when(loanApplicationLockRepository.findIdsByStatusInCreatedBefore(any(), any(), any())).thenReturn(List.of());
+        when(installmentPaymentLockRepository.findIdsByStatusInCreatedBefore(any(), any(), any())).thenReturn(List.of());
+
+        lockReaper.reap();
+
+        verify(loanApplicationLockRepository).updateStatusCreatedBefore(
+                LockStatus.IN_PROGRESS, LockStatus.FAILED, NOW.minusMinutes(1), NOW);
+        verify(installmentPaymentLockRepository).findIdsByStatusInCreatedBefore(FINISHED, NOW.minusDays(7),
+                PageRequest.of(0, 2));
+    }
+}
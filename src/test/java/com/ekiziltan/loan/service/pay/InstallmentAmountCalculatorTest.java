@@ -0,0 +1,77 @@
+package com.ekiziltan.loan.service.pay;
+
+import com.ekiziltan.loan.entity.LoanInstallment;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstallmentAmountCalculatorTest {
+
+    private static final LocalDate NOW = LocalDate.of(2025, 3, 15);
+
+    private final InstallmentAmountCalculator calculator = new InstallmentAmountCalculator();
+
+    @Test
+    void testBatchMatchesBigDecimalRulesForRandomInstallments() {
+        Random random = new Random(20250315L);
+        for (int run = 0; run < 200; run++) {
+            List<LoanInstallment> installments = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(24); i++) {
+                BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 100_000_000_00L), 2);
+                installments.add(installment(amount, NOW.plusDays(random.nextInt(-400, 400))));
+            }
+
+            long[] finalAmounts = calculator.calculateFinalAmounts(installments,
+                    LoanInstallment::getAmount, LoanInstallment::getDueDate, NOW);
+
+            for (int i = 0; i < installments.size(); i++) {
+                BigDecimal expected = referenceFinalAmount(installments.get(i), NOW);
+                BigDecimal actual = BigDecimal.valueOf(finalAmounts[i], InstallmentAmountCalculator.AMOUNT_SCALE);
+                assertEquals(0, expected.compareTo(actual), installments.get(i).getDueDate() + " " + expected);
+                assertEquals(0, expected.compareTo(calculator.calculateFinalAmount(installments.get(i), NOW)));
+            }
+        }
+    }
+
+    @Test
+    void testOnDueDateKeepsAmount() {
+        LoanInstallment installment = installment(new BigDecimal("92.63"), NOW);
+
+        assertEquals(new BigDecimal("92.63"), calculator.calculateFinalAmount(installment, NOW));
+    }
+
+    @Test
+    void testUnitsRoundTrip() {
+        assertEquals(new BigDecimal("92.35211"), InstallmentAmountCalculator.toAmount(9_235_211));
+        assertEquals(new BigDecimal("99.00"), InstallmentAmountCalculator.toAmount(9_900_000));
+        assertEquals(9_235_211, InstallmentAmountCalculator.toUnits(new BigDecimal("92.352119")));
+    }
+
+    // the per-installment BigDecimal rules the batch pipeline replaces
+    private static BigDecimal referenceFinalAmount(LoanInstallment inst, LocalDate now) {
+        if (now.isBefore(inst.getDueDate())) {
+            long daysEarly = ChronoUnit.DAYS.between(now, inst.getDueDate());
+            return inst.getAmount().subtract(inst.getAmount()
+                    .multiply(BigDecimal.valueOf(0.001)).multiply(BigDecimal.valueOf(daysEarly)));
+        } else if (now.isAfter(inst.getDueDate())) {
+            long daysLate = ChronoUnit.DAYS.between(inst.getDueDate(), now);
+            return inst.getAmount().add(inst.getAmount()
+                    .multiply(BigDecimal.valueOf(0.001)).multiply(BigDecimal.valueOf(daysLate)));
+        }
+        return inst.getAmount();
+    }
+
+    private static LoanInstallment installment(BigDecimal amount, LocalDate dueDate) {
+        LoanInstallment installment = new LoanInstallment();
+        installment.setAmount(amount);
+        installment.setDueDate(dueDate);
+        return installment;
+    }
+}
@@ -0,0 +1,181 @@
+package com.ekiziltan.loan.service.pay;
+
+import com.ekiziltan.loan.dto.PayInstallmentRequest;
+import com.ekiziltan.loan.dto.PayInstallmentResponse;
+import com.ekiziltan.loan.entity.Customer;
+import com.ekiziltan.loan.entity.Loan;
+import com.ekiziltan.loan.entity.LoanInstallment;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.repository.LoanInstallmentRepository;
+import com.ekiziltan.loan.repository.LoanRepository;
+import com.ekiziltan.loan.service.cache.InstallmentScheduleCache;
+import com.ekiziltan.loan.service.cache.LoanCacheEvictor;
+import com.ekiziltan.loan.service.credit.CreditLedger;
+import com.ekiziltan.loan.service.lock.InstallmentPaymentLockService;
+import com.ekiziltan.loan.service.lock.LoanApplicationLockService;
+import com.ekiziltan.loan.utils.SecurityHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InstallmentPayServiceImplTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+    @Mock
+    private LoanInstallmentRepository installmentRepository;
+    @Mock
+    private CreditLedger creditLedger;
+    @Mock
+    private InstallmentPaymentLockService installmentPaymentLockService;
+    @Mock
+    private LoanApplicationLockService loanApplicationLockService;
+    @Spy
+    private InstallmentAmountCalculator amountCalculator = new InstallmentAmountCalculator();
+    @Spy
+    private InstallmentProcessor installmentProcessor = new InstallmentProcessor();
+    @Mock
+    private SecurityHelper securityHelper;
+    @Mock
+    private LoanCacheEvictor loanCacheEvictor;
+    @Mock
+    private InstallmentScheduleCache installmentScheduleCache;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private InstallmentPayServiceImpl installmentPayService;
+
+    private final LocalDate firstDueDate = LocalDate.now(ZoneId.of("UTC")).withDayOfMonth(1);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(securityHelper.getCustomerIdFromSecurityContext()).thenReturn(1L);
+        when(transactionTemplate.execute(any(TransactionCallback.class))).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    @Test
+    void testPaymentWritesWithoutPerRowSaves() {
+        Loan loan = loan(3);
+        when(loanRepository.findByIdWithLock(10L)).thenReturn(Optional.of(loan));
+        stubSchedule(loan);
+
+        PayInstallmentResponse response = installmentPayService.execute(request(new BigDecimal("250")));
+
+        assertEquals(2, response.getPaidInstalments());
+        assertFalse(response.getLoanIsFullyPaid());
+        verify(creditLedger).release(1L, new BigDecimal("180.00"));
+        verify(installmentRepository, never()).save(any());
+        verify(installmentRepository, never()).saveAll(any());
+        verify(loanRepository, never()).save(any());
+        verify(installmentRepository, never()).findByLoan_IdOrderByDueDateAsc(any());
+        verify(installmentPaymentLockService).markLockAsDone(10L);
+    }
+
+    @Test
+    void testPayingLastInstallmentMarksLoanPaid() {
+        Loan loan = loan(1);
+        when(loanRepository.findByIdWithLock(10L)).thenReturn(Optional.of(loan));
+        stubSchedule(loan);
+
+        PayInstallmentResponse response = installmentPayService.execute(request(new BigDecimal("200")));
+
+        assertTrue(response.getLoanIsFullyPaid());
+        assertTrue(loan.getIsPaid());
+        verify(loanRepository, never()).save(any());
+    }
+
+    @Test
+    void testOptimisticModeRetriesOnConflictHoldingOnlyThePayer() {
+        ReflectionTestUtils.setField(installmentPayService, "concurrencyMode", PaymentConcurrencyMode.OPTIMISTIC);
+        Loan loan = loan(1);
+        when(loanRepository.findByIdForOptimisticUpdate(10L)).thenReturn(Optional.of(loan));
+        stubSchedule(loan);
+        doThrow(new ObjectOptimisticLockingFailureException(Loan.class, 10L))
+                .doNothing()
+                .when(creditLedger).release(anyLong(), any());
+
+        PayInstallmentResponse response = installmentPayService.execute(request(new BigDecimal("200")));
+
+        assertEquals(1, response.getPaidInstalments());
+        verify(loanRepository, times(2)).findByIdForOptimisticUpdate(10L);
+        verify(loanRepository, never()).findByIdWithLock(any());
+        verify(installmentPaymentLockService).holdPayer();
+        verify(installmentPaymentLockService).releasePayer();
+        verify(installmentPaymentLockService, never()).createLock(any());
+        verify(installmentScheduleCache).evict(10L);
+        verify(installmentScheduleCache, never()).applyPayments(any(), any());
+    }
+
+    @Test
+    void testOptimisticModeGivesUpAfterMaxAttempts() {
+        ReflectionTestUtils.setField(installmentPayService, "concurrencyMode", PaymentConcurrencyMode.OPTIMISTIC);
+        when(loanRepository.findByIdForOptimisticUpdate(10L))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Loan.class, 10L));
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> installmentPayService.execute(request(new BigDecimal("200"))));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        verify(loanRepository, times(3)).findByIdForOptimisticUpdate(10L);
+        verify(installmentPaymentLockService).releasePayer();
+    }
+
+    private void stubSchedule(Loan loan) {
+        when(installmentRepository.countByLoan_IdAndIsPaidFalse(10L)).thenReturn((long) loan.getInstallments().size());
+        when(installmentRepository.findPayableInstallments(eq(10L), any())).thenReturn(loan.getInstallments());
+    }
+
+    private static PayInstallmentRequest request(BigDecimal amount) {
+        PayInstallmentRequest request = new PayInstallmentRequest();
+        request.setLoanId(10L);
+        request.setPayAmount(amount);
+        return request;
+    }
+
+    // installments of 100.00 (90.00 principal) due on the first of consecutive months, starting this month
+    private Loan loan(int installmentCount) {
+        Customer customer = new Customer();
+        customer.setId(1L);
+        Loan loan = new Loan();
+        loan.setId(10L);
+        loan.setCustomer(customer);
+        loan.setIsPaid(false);
+        List<LoanInstallment> installments = new ArrayList<>();
+        for (int i = 0; i < installmentCount; i++) {
+            LoanInstallment installment = new LoanInstallment();
+            installment.setId((long) i + 1);
+            installment.setLoan(loan);
+            installment.setAmount(new BigDecimal("100.00"));
+            installment.setPrincipalPortion(new BigDecimal("90.00"));
+            installment.setPaidAmount(BigDecimal.ZERO);
+            installment.setIsPaid(false);
+            installment.setDueDate(firstDueDate.plusMonths(i));
+            installments.add(installment);
+        }
+        loan.setInstallments(installments);
+        return loan;
+    }
+}
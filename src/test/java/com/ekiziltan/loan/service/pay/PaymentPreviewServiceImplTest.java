@@ -0,0 +1,99 @@
+package com.ekiziltan.loan.service.pay;
+
+import com.ekiziltan.loan.dto.LoanInstallmentDTO;
+import com.ekiziltan.loan.dto.PayInstallmentRequest;
+import com.ekiziltan.loan.dto.PaymentPreviewResponse;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.service.cache.InstallmentScheduleCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PaymentPreviewServiceImplTest {
+
+    @Mock
+    private InstallmentScheduleCache installmentScheduleCache;
+    @Spy
+    private InstallmentAmountCalculator amountCalculator = new InstallmentAmountCalculator();
+    @Spy
+    private InstallmentProcessor installmentProcessor = new InstallmentProcessor();
+    @InjectMocks
+    private PaymentPreviewServiceImpl paymentPreviewService;
+
+    private final LocalDate today = LocalDate.now(ZoneId.of("UTC"));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testPreviewReportsCoveredRowsWithAdjustments() {
+        when(installmentScheduleCache.getSchedule(10L)).thenReturn(List.of(
+                installment(1L, today.minusDays(40), true),
+                installment(2L, today.minusDays(10), false),
+                installment(3L, today.plusDays(5), false),
+                installment(4L, today.plusMonths(6), false)));
+
+        PaymentPreviewResponse preview = paymentPreviewService.execute(request("300"));
+
+        // 100.00 ten days late: +1.00; 100.00 five days early: -0.50; the last one is outside the window
+        assertEquals(2, preview.getPaidInstalments());
+        assertEquals(0, new BigDecimal("200.50").compareTo(preview.getTotalSpent()));
+        assertEquals(0, new BigDecimal("99.50").compareTo(preview.getAmountLeft()));
+        assertFalse(preview.getLoanIsFullyPaid());
+        assertEquals(0, new BigDecimal("1.00").compareTo(preview.getInstallments().get(0).getAdjustment()));
+        assertEquals(0, new BigDecimal("-0.50").compareTo(preview.getInstallments().get(1).getAdjustment()));
+        assertEquals(3L, preview.getInstallments().get(1).getInstallmentId());
+    }
+
+    @Test
+    void testPreviewStopsAtFirstUncoveredInstallment() {
+        when(installmentScheduleCache.getSchedule(10L)).thenReturn(List.of(
+                installment(2L, today.minusDays(10), false),
+                installment(3L, today, false)));
+
+        PaymentPreviewResponse preview = paymentPreviewService.execute(request("100.99"));
+
+        assertEquals(0, preview.getPaidInstalments());
+        assertTrue(preview.getInstallments().isEmpty());
+    }
+
+    @Test
+    void testPreviewOfUnknownLoan() {
+        when(installmentScheduleCache.getSchedule(10L)).thenReturn(List.of());
+
+        ApiException ex = assertThrows(ApiException.class, () -> paymentPreviewService.execute(request("100")));
+
+        assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+    }
+
+    private static PayInstallmentRequest request(String amount) {
+        PayInstallmentRequest request = new PayInstallmentRequest();
+        request.setLoanId(10L);
+        request.setPayAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    private static LoanInstallmentDTO installment(Long id, LocalDate dueDate, boolean paid) {
+        LoanInstallmentDTO installment = new LoanInstallmentDTO();
+        installment.setId(id);
+        installment.setLoanId(10L);
+        installment.setAmount(new BigDecimal("100.00"));
+        installment.setDueDate(dueDate);
+        installment.setIsPaid(paid);
+        return installment;
+    }
+}
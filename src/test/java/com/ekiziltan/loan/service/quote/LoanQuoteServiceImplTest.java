@@ -0,0 +1,95 @@
+package com.ekiziltan.loan.service.quote;
+
+import com.ekiziltan.loan.dto.LoanQuoteInstallment;
+import com.ekiziltan.loan.dto.LoanQuoteRequest;
+import com.ekiziltan.loan.dto.LoanQuoteResponse;
+import com.ekiziltan.loan.handlers.exceptions.ApiException;
+import com.ekiziltan.loan.service.amortization.AmortizationEngine;
+import com.ekiziltan.loan.service.amortization.AnnuityFactorTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LoanQuoteServiceImplTest {
+
+    private final AmortizationEngine amortizationEngine = spy(new AmortizationEngine(new AnnuityFactorTable()));
+    private final LoanQuoteServiceImpl loanQuoteService = new LoanQuoteServiceImpl(amortizationEngine, 2);
+
+    @Test
+    void testQuoteReturnsFullSchedule() {
+        LoanQuoteResponse quote = loanQuoteService.execute(request("1000", 0.2, 12));
+
+        assertEquals(new BigDecimal("92.63"), quote.getInstallmentAmount());
+        assertEquals(12, quote.getInstallments().size());
+        assertEquals(0, quote.getScheduleTotalAmount().compareTo(quote.getPrincipalAmount().add(quote.getScheduleTotalInterest())));
+        assertEquals(new BigDecimal("20.0000"), quote.getApr());
+        assertEquals(new BigDecimal("21.9391"), quote.getEffectiveAnnualRate());
+        LoanQuoteInstallment last = quote.getInstallments().get(11);
+        assertEquals(12, last.getInstallmentNumber());
+        assertEquals(0, BigDecimal.ZERO.compareTo(last.getRemainingPrincipal()));
+    }
+
+    @Test
+    void testRepeatedQuotesAreServedFromLru() {
+        LoanQuoteResponse first = loanQuoteService.execute(request("1000", 0.2, 12));
+        LoanQuoteResponse second = loanQuoteService.execute(request("1000.00", 0.2, 12));
+        loanQuoteService.execute(request("2000", 0.2, 12));
+
+        assertSame(first.getInstallments(), second.getInstallments());
+        verify(amortizationEngine, times(2)).schedule(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testQuoteReportsLoanAmountsAsLoanCreationRecordsThem() {
+        LoanQuoteResponse quote = loanQuoteService.execute(request("1000", 0.2, 12));
+
+        assertEquals(0, new BigDecimal("1200").compareTo(quote.getLoanAmount()));
+        assertEquals(0, new BigDecimal("200").compareTo(quote.getInterestAmount()));
+        assertEquals(new BigDecimal("111.61"), quote.getScheduleTotalInterest());
+    }
+
+    @Test
+    void testSubCentPrincipalIsRoundedOnceForEveryAmount() {
+        LoanQuoteResponse quote = loanQuoteService.execute(request("1000.006", 0.2, 12));
+
+        assertEquals(new BigDecimal("1000.01"), quote.getPrincipalAmount());
+        assertEquals(0, quote.getLoanAmount().subtract(quote.getPrincipalAmount()).compareTo(quote.getInterestAmount()));
+        assertEquals(0, new BigDecimal("1200.012").compareTo(quote.getLoanAmount()));
+    }
+
+    @Test
+    void testCachedQuoteEchoesEachRequestsRate() {
+        loanQuoteService.execute(request("1000", 0.2, 12));
+        LoanQuoteResponse quote = loanQuoteService.execute(request("1000", 0.2000001, 12));
+
+        assertEquals(0.2000001, quote.getInterestRate());
+        verify(amortizationEngine, times(1)).schedule(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testQuoteRejectsPrincipalBeyondMaximum() {
+        ApiException ex = assertThrows(ApiException.class,
+                () -> loanQuoteService.execute(request("200000000000", 0.5, 24)));
+
+        assertEquals("Principal amount must not exceed 1000000000", ex.getMessage());
+        verify(amortizationEngine, never()).schedule(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void testQuoteValidatesLikeLoanCreation() {
+        ApiException ex = assertThrows(ApiException.class, () -> loanQuoteService.execute(request("1000", 0.2, 7)));
+
+        assertEquals("Installment count must be one of 6, 9, 12, 24", ex.getMessage());
+    }
+
+    private static LoanQuoteRequest request(String principal, double rate, int count) {
+        LoanQuoteRequest request = new LoanQuoteRequest();
+        request.setPrincipalAmount(new BigDecimal(principal));
+        request.setInterestRate(rate);
+        request.setNumberOfInstallment(count);
+        return request;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ekiziltan.loan.service.quote;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedLruCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        ShardedLruCache<String, Integer> cache = new ShardedLruCache<>(2, 1);
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    void testSizeIsBoundedAcrossShards() {
+        ShardedLruCache<Integer, Integer> cache = new ShardedLruCache<>(64, 16);
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+
+        int cached = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (cache.get(i) != null) {
+                cached++;
+            }
+        }
+        assertTrue(cached > 0 && cached <= 64, "cached " + cached);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        ShardedLruCache<Integer, Integer> cache = new ShardedLruCache<>(1_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            tasks.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    cache.put(i % 500, i % 500);
+                    Integer value = cache.get(i % 500);
+                    assertTrue(value == null || value == i % 500);
+                }
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(499, cache.get(499));
+    }
+}
@@ -1,7 +1,6 @@
 package com.ekiziltan.loan.utils.validations;
 
 import com.ekiziltan.loan.dto.CreateLoanRequest;
-import com.ekiziltan.loan.entity.Customer;
 import com.ekiziltan.loan.handlers.exceptions.ApiException;
 import com.ekiziltan.loan.validations.LoanValidator;
 import org.junit.jupiter.api.Test;
@@ -54,6 +53,7 @@ class LoanValidatorTest {
     void testValidatePrincipalAmountValid() {
         assertDoesNotThrow(() -> LoanValidator.validatePrincipalAmount(new BigDecimal("1000")));
         assertDoesNotThrow(() -> LoanValidator.validatePrincipalAmount(new BigDecimal("0.01")));
+        assertDoesNotThrow(() -> LoanValidator.validatePrincipalAmount(LoanValidator.MAX_PRINCIPAL_AMOUNT));
     }
 
     @Test
@@ -64,6 +64,9 @@ class LoanValidatorTest {
 
         exception = assertThrows(ApiException.class, () -> LoanValidator.validatePrincipalAmount(new BigDecimal("-100")));
         assertEquals("Principal amount must be greater than 0", exception.getMessage());
+
+        exception = assertThrows(ApiException.class, () -> LoanValidator.validatePrincipalAmount(new BigDecimal("1000000000.01")));
+        assertEquals("Principal amount must not exceed 1000000000", exception.getMessage());
         
     }
 
@@ -114,21 +117,17 @@ class LoanValidatorTest {
     }
 
     @Test
-    void testCheckLoanLimitExceedValid() {
-        Customer customer = new Customer();
-        customer.setCreditLimit(new BigDecimal("10000"));
-
-        assertDoesNotThrow(() -> LoanValidator.checkLoanLimitExceed(new BigDecimal("5000"), customer));
-        assertDoesNotThrow(() -> LoanValidator.checkLoanLimitExceed(new BigDecimal("10000"), customer));
+    void testIsWithinLimit() {
+        assertTrue(LoanValidator.isWithinLimit(new BigDecimal("5000"), new BigDecimal("10000")));
+        assertTrue(LoanValidator.isWithinLimit(new BigDecimal("10000"), new BigDecimal("10000")));
+        assertFalse(LoanValidator.isWithinLimit(new BigDecimal("15000"), new BigDecimal("10000")));
     }
 
     @Test
-    void testCheckLoanLimitExceedInvalid() {
-        Customer customer = new Customer();
-        customer.setCreditLimit(new BigDecimal("10000"));
+    void testCheckCreditReserved() {
+        assertDoesNotThrow(() -> LoanValidator.checkCreditReserved(true));
 
-        ApiException exception = assertThrows(ApiException.class, () -> LoanValidator.checkLoanLimitExceed(new BigDecimal("15000"), customer));
+        ApiException exception = assertThrows(ApiException.class, () -> LoanValidator.checkCreditReserved(false));
         assertEquals("Customer exceeds credit limit!", exception.getMessage());
-        
     }
 }